@@ -0,0 +1,99 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throwable handler dispatch from many threads at once, as during an error
+ * storm, comparing MultiConsumer against the previous design that held a
+ * lock for the duration of dispatch.  Lives in the library's package so it
+ * can use MultiConsumer directly, without a logging backend in the way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class MultiConsumerBenchmark {
+
+    @Param({"1", "10"})
+    public int handlers;
+
+    // simulated cost of each handler, in JMH "tokens"
+    @Param({"0", "500"})
+    public int work;
+
+    private MultiConsumer<Throwable> _copyOnWrite;
+    private SynchronizedMultiConsumer<Throwable> _synchronized;
+    private Throwable _throwable = new Exception("contention");
+
+    @Setup
+    public void setup() {
+        _copyOnWrite = new MultiConsumer<>();
+        _synchronized = new SynchronizedMultiConsumer<>();
+        for (int i = 0; i < handlers; ++i) {
+            Consumer<Throwable> h = t -> Blackhole.consumeCPU(work);
+            _copyOnWrite.add(h);
+            _synchronized.add(h);
+        }
+    }
+
+    @Benchmark
+    public void copyOnWrite() {
+        _copyOnWrite.accept(_throwable);
+    }
+
+    @Benchmark
+    public void synchronizedDispatch() {
+        _synchronized.accept(_throwable);
+    }
+
+    // the previous MultiConsumer implementation
+    private static class SynchronizedMultiConsumer<T> implements Consumer<T> {
+        private final Set<Consumer<T>> _handlers = new java.util.LinkedHashSet<>();
+        private final Object _lock = new Object();
+
+        void add(Consumer<T> t) {
+            synchronized(_lock) {
+                _handlers.add(t);
+            }
+        }
+
+        @Override
+        public void accept(T t) {
+            synchronized(_lock) {
+                _handlers.forEach(h -> h.accept(t));
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import com.martiansoftware.log.OverflowPolicy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Console output via cout and cerr, with and without jansi markup.  Console
+ * streams are redirected to a null stream by BenchSupport, so this measures
+ * rendering and slf4j work rather than terminal speed.  In async mode the
+ * queue blocks when full, so the writer thread's cost is not hidden.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnsiLoggerBenchmark {
+
+    @Param({"sync", "async"})
+    public String mode;
+
+    private Log _log;
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        if (mode.equals("async")) Log.useAsyncConsole(8192, OverflowPolicy.BLOCK);
+        _log = Log.named(BenchSupport.ENABLED);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Log.useSyncConsole();
+    }
+
+    @Benchmark
+    public void coutPlain() {
+        _log.cout.print("a plain console message");
+    }
+
+    @Benchmark
+    public void coutMarkup() {
+        _log.cout.print("@|bold,blue a marked up|@ console message");
+    }
+
+    @Benchmark
+    public void cerrPlain() {
+        _log.cerr.print("a plain console error");
+    }
+}
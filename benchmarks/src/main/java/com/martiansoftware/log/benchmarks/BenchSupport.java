@@ -0,0 +1,61 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Shared setup for all benchmarks.  Must be called before the Log class is
+ * first touched so that the console streams jansi wraps are already silenced
+ * and any slf4j binding on the classpath picks up our configuration.
+ *
+ * Two loggers are configured: ENABLED logs at info and above, DISABLED only
+ * at warn and above, so info-level calls against it exercise the disabled
+ * path.  With the default slf4j-nop binding every level is disabled; build
+ * with -P simple to measure the enabled paths against a real backend.
+ */
+final class BenchSupport {
+
+    static final String ENABLED = "bench.enabled";
+    static final String DISABLED = "bench.disabled";
+
+    private static final PrintStream NULL_STREAM = new PrintStream(new OutputStream() {
+        @Override public void write(int b) {}
+        @Override public void write(byte[] b, int off, int len) {}
+    });
+
+    static {
+        System.setOut(NULL_STREAM);
+        System.setErr(NULL_STREAM);
+
+        // only consulted by slf4j-simple; harmless for other bindings
+        String devNull = System.getProperty("os.name", "").startsWith("Windows") ? "NUL" : "/dev/null";
+        setDefault("org.slf4j.simpleLogger.logFile", devNull);
+        setDefault("org.slf4j.simpleLogger.defaultLogLevel", "info");
+        setDefault("org.slf4j.simpleLogger.log." + DISABLED, "warn");
+    }
+
+    private BenchSupport() {}
+
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) System.setProperty(key, value);
+    }
+
+    /**
+     * Forces static initialization; call first from every @Setup method.
+     */
+    static void init() {}
+}
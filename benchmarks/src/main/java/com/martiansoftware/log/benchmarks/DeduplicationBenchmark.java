@@ -0,0 +1,63 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.DeduplicatingThrowableHandler;
+import com.martiansoftware.log.Log;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The duplicate path of DeduplicatingThrowableHandler, which is the hot path
+ * during an incident.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeduplicationBenchmark {
+
+    private DeduplicatingThrowableHandler _handler;
+    private Exception _exception;
+    private volatile Throwable _lastForwarded;
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        _handler = new DeduplicatingThrowableHandler(t -> _lastForwarded = t,
+                                                        DeduplicatingThrowableHandler.DEFAULT_FRAMES,
+                                                        Duration.ofDays(1),
+                                                        Log.named(BenchSupport.DISABLED).info);
+        _exception = new Exception("duplicate");
+        _handler.accept(_exception);
+    }
+
+    @Benchmark
+    public void duplicate() {
+        _handler.accept(_exception);
+    }
+}
@@ -0,0 +1,102 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import com.martiansoftware.log.SingleLevelLogger;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Every SingleLevelLogger entry point against a disabled level.  Run with
+ * -prof gc; gc.alloc.rate.norm should be 0 B/op for all of these except
+ * formatAutoboxed, which boxes a long at the call site, and coutSlf4jDisabled,
+ * which still has to render and print to the console.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisabledPathBenchmark {
+
+    private Log _log;
+    private SingleLevelLogger _sll;
+    private Object _a = "alpha";
+    private int _b = 42;
+    private Object _c = 123456789L;
+    private long _primitive = 123456789L;
+    private Exception _exception = new Exception("disabled");
+    private Supplier<String> _supplier = () -> "supplied message";
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        _log = Log.named(BenchSupport.DISABLED);
+        _sll = _log.info;
+    }
+
+    @Benchmark
+    public void print() {
+        _sll.print("a message");
+    }
+
+    @Benchmark
+    public void printSupplier() {
+        _sll.print(_supplier);
+    }
+
+    @Benchmark
+    public void format() {
+        _sll.format("%s is %d or %d", _a, _b, _c);
+    }
+
+    // the caller autoboxes the long before the level check can happen
+    @Benchmark
+    public void formatAutoboxed() {
+        _sll.format("%s is %d or %d", _a, _b, _primitive);
+    }
+
+    @Benchmark
+    public void throwable() {
+        _sll.throwable(_exception);
+    }
+
+    @Benchmark
+    public void throwableFormat() {
+        _sll.throwable(_exception, "%s failed with %d", _a, _b);
+    }
+
+    @Benchmark
+    public void logVarargs() {
+        _log.info("{} is {} or {}", _a, _b, _c);
+    }
+
+    @Benchmark
+    public void coutSlf4jDisabled() {
+        _log.cout.print("a console message");
+    }
+}
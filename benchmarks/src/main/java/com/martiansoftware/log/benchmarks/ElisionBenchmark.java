@@ -0,0 +1,72 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A small loop with trace and debug calls inside it, for comparing builds
+ * with and without the log-elide-maven-plugin (-P elide), which removes them.
+ * plain() is the same loop with no logging at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElisionBenchmark {
+
+    private Log _log;
+    private int[] _values = new int[256];
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        _log = Log.named(BenchSupport.DISABLED);
+        for (int i = 0; i < _values.length; ++i) _values[i] = i * 31;
+    }
+
+    @Benchmark
+    public long logged() {
+        long sum = 0;
+        for (int i = 0; i < _values.length; ++i) {
+            _log.trace("value {} is {}", i, _values[i]);
+            sum += _values[i];
+            if (_log.isDebugEnabled()) _log.debug.format("sum so far is %d", sum);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long plain() {
+        long sum = 0;
+        for (int i = 0; i < _values.length; ++i) {
+            sum += _values[i];
+        }
+        return sum;
+    }
+}
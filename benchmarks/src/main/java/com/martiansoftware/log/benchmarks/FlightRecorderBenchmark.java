@@ -0,0 +1,79 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Disabled debug calls with the flight recorder off and on.  With the recorder
+ * on, each call is copied into the calling thread's off-heap ring; run with
+ * -prof gc to confirm that this does not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlightRecorderBenchmark {
+
+    @Param({"off", "on"})
+    private String _recorder;
+
+    private Log _log;
+    private Object _a = "alpha";
+    private int _b = 42;
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        if ("on".equals(_recorder)) Log.enableFlightRecorder(64 * 1024, Duration.ofSeconds(30));
+        _log = Log.named(BenchSupport.DISABLED);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Log.disableFlightRecorder();
+    }
+
+    @Benchmark
+    public void debugPrint() {
+        _log.debug.print("a message");
+    }
+
+    @Benchmark
+    public void debugVarargs() {
+        _log.debug("{} is {}", _a, _b);
+    }
+
+    @Benchmark
+    public void debugFormat() {
+        _log.debug.format("%s is %d", _a, _b);
+    }
+}
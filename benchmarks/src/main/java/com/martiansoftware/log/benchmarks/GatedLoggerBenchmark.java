@@ -0,0 +1,73 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import com.martiansoftware.log.SingleLevelLogger;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The rejected path of rate-limited, sampled and every-nth views, from
+ * several threads.  Built on cout, which is always enabled, so the gate is
+ * exercised regardless of the slf4j binding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class GatedLoggerBenchmark {
+
+    private SingleLevelLogger _rateLimited, _sampled, _everyNth;
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        Log log = Log.named(BenchSupport.ENABLED);
+        _rateLimited = log.cout.rateLimited(1, Duration.ofDays(1));
+        _sampled = log.cout.sampled(0.0);
+        _everyNth = log.cout.everyNth(Integer.MAX_VALUE);
+        _rateLimited.print("uses up the only permit");
+    }
+
+    @Benchmark
+    public void rateLimitedRejected() {
+        _rateLimited.print("rejected");
+    }
+
+    @Benchmark
+    public void sampledRejected() {
+        _sampled.print("rejected");
+    }
+
+    @Benchmark
+    public void everyNthRejected() {
+        _everyNth.print("rejected");
+    }
+}
@@ -0,0 +1,68 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Structured messages via SingleLevelLogger.kv(), enabled and disabled,
+ * against the equivalent String.format()-style call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyValueBenchmark {
+
+    private Log _enabled, _disabled;
+    private String _user = "bob";
+    private long _latency = 12;
+    private boolean _ok = true;
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        _enabled = Log.named(BenchSupport.ENABLED);
+        _disabled = Log.named(BenchSupport.DISABLED);
+    }
+
+    @Benchmark
+    public void kvEnabled() {
+        _enabled.info.kv("request done").with("user", _user).with("latencyMs", _latency).with("ok", _ok).log();
+    }
+
+    @Benchmark
+    public void kvDisabled() {
+        _disabled.info.kv("request done").with("user", _user).with("latencyMs", _latency).with("ok", _ok).log();
+    }
+
+    @Benchmark
+    public void formatEnabled() {
+        _enabled.info.format("request done user=%s latencyMs=%d ok=%s", _user, _latency, _ok);
+    }
+}
@@ -0,0 +1,134 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import com.martiansoftware.log.SingleLevelLogger;
+import com.martiansoftware.log.StopwatchLog;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the generated per-level SingleLevelLogger classes against the
+ * original design, in which a single class dispatched through a
+ * Supplier&lt;Boolean&gt; level check and Consumer/BiConsumer lambdas (copied
+ * here as LambdaLogger).  The "allLevels" variants hit every level from the
+ * same call site, as code passing SingleLevelLoggers around tends to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelDispatchBenchmark {
+
+    private SingleLevelLogger[] _generated, _lambdas;
+    private SingleLevelLogger _generatedDisabled, _lambdaDisabled;
+    
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        Log log = Log.named(BenchSupport.DISABLED);
+        _generated = new SingleLevelLogger[] { log.trace, log.debug, log.info, log.warn, log.error };
+        _lambdas = new SingleLevelLogger[] {
+            new LambdaLogger(() -> log.isTraceEnabled(), s -> log.trace(s), (s, t) -> log.trace(s, t)),
+            new LambdaLogger(() -> log.isDebugEnabled(), s -> log.debug(s), (s, t) -> log.debug(s, t)),
+            new LambdaLogger(() -> log.isInfoEnabled(), s -> log.info(s), (s, t) -> log.info(s, t)),
+            new LambdaLogger(() -> log.isWarnEnabled(), s -> log.warn(s), (s, t) -> log.warn(s, t)),
+            new LambdaLogger(() -> log.isErrorEnabled(), s -> log.error(s), (s, t) -> log.error(s, t))
+        };
+        _generatedDisabled = _generated[2];
+        _lambdaDisabled = _lambdas[2];
+    }
+
+    @Benchmark
+    public boolean generatedIsEnabled() {
+        return _generatedDisabled.isEnabled();
+    }
+
+    @Benchmark
+    public boolean lambdaIsEnabled() {
+        return _lambdaDisabled.isEnabled();
+    }
+
+    @Benchmark
+    public void generatedPrint() {
+        _generatedDisabled.print("message");
+    }
+
+    @Benchmark
+    public void lambdaPrint() {
+        _lambdaDisabled.print("message");
+    }
+
+    @Benchmark
+    public void generatedAllLevels() {
+        for (SingleLevelLogger sll : _generated) sll.print("message");
+    }
+
+    @Benchmark
+    public void lambdaAllLevels() {
+        for (SingleLevelLogger sll : _lambdas) sll.print("message");
+    }
+    
+    // the pre-generated-class design of Log.SLL
+    private static class LambdaLogger implements SingleLevelLogger {
+        private final Supplier<Boolean> _enabledChecker;
+        private final Consumer<String> _logger;
+        private final BiConsumer<String, Throwable> _throwableLogger;
+        
+        LambdaLogger(Supplier<Boolean> enabledChecker, Consumer<String> logger, BiConsumer<String, Throwable> throwableLogger) {
+            _enabledChecker = enabledChecker;
+            _logger = logger;
+            _throwableLogger = throwableLogger;
+        }
+        
+        @Override public boolean isEnabled() {
+            return _enabledChecker.get();
+        }
+
+        @Override public SingleLevelLogger format(String format, Object... args) {
+            if (isEnabled()) print(String.format(format, args));
+            return this;
+        }
+
+        @Override public SingleLevelLogger throwable(Throwable t, String format, Object... args) {
+            if (isEnabled()) _throwableLogger.accept(String.format(format, args), t);
+            return this;
+        }
+
+        @Override public SingleLevelLogger print(String message) {
+            _logger.accept(message);
+            return this;
+        }
+        
+        @Override public StopwatchLog stopwatch(String name) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
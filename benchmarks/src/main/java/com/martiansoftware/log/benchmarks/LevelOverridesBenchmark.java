@@ -0,0 +1,77 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Disabled level checks and debug calls with and without a level override
+ * for the logger.  With an override, the check is answered from the Log's
+ * cached level instead of by the backend.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelOverridesBenchmark {
+
+    @Param({"none", "override"})
+    private String _overrides;
+
+    private Log _log;
+    private Object _a = "alpha";
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        if ("override".equals(_overrides)) {
+            Properties p = new Properties();
+            p.setProperty(BenchSupport.DISABLED, "warn");
+            Log.setLevelOverrides(p);
+        }
+        _log = Log.named(BenchSupport.DISABLED).withPrefix("[bench] ");
+    }
+
+    @TearDown
+    public void tearDown() {
+        Log.clearLevelOverrides();
+    }
+
+    @Benchmark
+    public boolean isDebugEnabled() {
+        return _log.isDebugEnabled();
+    }
+
+    @Benchmark
+    public void debug() {
+        _log.debug("{} happened", _a);
+    }
+}
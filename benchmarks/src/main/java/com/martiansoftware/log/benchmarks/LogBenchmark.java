@@ -0,0 +1,87 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Log.info(String, Object...) against a plain slf4j Logger, enabled and disabled,
+ * with and without Log metrics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogBenchmark {
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private Log _enabled, _disabled;
+    private Logger _slf4jEnabled, _slf4jDisabled;
+    private Object _a = "alpha", _b = 42, _c = 3.14;
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        Log.enableMetrics(metrics);
+        _enabled = Log.named(BenchSupport.ENABLED);
+        _disabled = Log.named(BenchSupport.DISABLED);
+        _slf4jEnabled = LoggerFactory.getLogger(BenchSupport.ENABLED);
+        _slf4jDisabled = LoggerFactory.getLogger(BenchSupport.DISABLED);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Log.enableMetrics(false);
+    }
+
+    @Benchmark
+    public void logInfoEnabled() {
+        _enabled.info("{} and {} and {}", _a, _b, _c);
+    }
+
+    @Benchmark
+    public void logInfoDisabled() {
+        _disabled.info("{} and {} and {}", _a, _b, _c);
+    }
+
+    @Benchmark
+    public void slf4jInfoEnabled() {
+        _slf4jEnabled.info("{} and {} and {}", _a, _b, _c);
+    }
+
+    @Benchmark
+    public void slf4jInfoDisabled() {
+        _slf4jDisabled.info("{} and {} and {}", _a, _b, _c);
+    }
+}
@@ -0,0 +1,69 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import com.martiansoftware.log.LogScope;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A successful "request" that logs ten info lines, logged directly and inside
+ * a LogScope that discards them.  Only meaningful with a real backend (build
+ * with -P simple).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogScopeBenchmark {
+
+    private Log _log;
+    private String _user = "bob";
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        _log = Log.named(BenchSupport.ENABLED);
+    }
+
+    private void request() {
+        for (int i = 0; i < 10; ++i) _log.info("step {} for {}", i, _user);
+    }
+
+    @Benchmark
+    public void unscoped() {
+        request();
+    }
+
+    @Benchmark
+    @SuppressWarnings("try") // the scope only needs to be open around request()
+    public void scoped() {
+        try (LogScope scope = Log.bufferScope()) {
+            request();
+        }
+    }
+}
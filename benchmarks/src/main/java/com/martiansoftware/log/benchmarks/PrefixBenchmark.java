@@ -0,0 +1,75 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creating and logging through withPrefix() chains of varying depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrefixBenchmark {
+
+    @Param({"1", "5", "10"})
+    public int depth;
+
+    private Log _root, _enabledChain, _disabledChain;
+    private Object _arg = "alpha";
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        _root = Log.named(BenchSupport.ENABLED);
+        _enabledChain = chain(_root, depth);
+        _disabledChain = chain(Log.named(BenchSupport.DISABLED), depth);
+    }
+
+    private static Log chain(Log log, int depth) {
+        for (int i = 0; i < depth; ++i) log = log.withPrefix("p" + i + ": ");
+        return log;
+    }
+
+    @Benchmark
+    public Log createChain() {
+        return chain(_root, depth);
+    }
+
+    @Benchmark
+    public void logEnabled() {
+        _enabledChain.info("value is {}", _arg);
+    }
+
+    @Benchmark
+    public void logDisabled() {
+        _disabledChain.info("value is {}", _arg);
+    }
+}
@@ -0,0 +1,92 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Primitive and Supplier arguments against boxed ones, for slf4j-style calls
+ * on Log and String.format()-style calls on SingleLevelLogger.  The "boxed"
+ * variants cast to Object to get the old overloads.  Run with -prof gc; the
+ * enabled variants need a real backend (build with -P simple).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveArgsBenchmark {
+
+    private Log _enabled, _disabled;
+    private String _name = "request";
+    private long _elapsed = 123456789L; // outside the Long cache
+    private double _ratio = 0.75;
+    private Supplier<String> _supplier = () -> String.valueOf(_elapsed);
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        _enabled = Log.named(BenchSupport.ENABLED);
+        _disabled = Log.named(BenchSupport.DISABLED);
+    }
+
+    @Benchmark
+    public void disabledPrimitive() {
+        _disabled.info("{} took {}", _name, _elapsed);
+    }
+
+    @Benchmark
+    public void disabledBoxed() {
+        _disabled.info("{} took {}", _name, (Object) _elapsed);
+    }
+
+    @Benchmark
+    public void disabledSupplier() {
+        _disabled.info("{}", _supplier);
+    }
+
+    @Benchmark
+    public void enabledPrimitive() {
+        _enabled.info("{} at {}", _elapsed, _ratio);
+    }
+
+    @Benchmark
+    public void enabledBoxed() {
+        _enabled.info("{} at {}", (Object) _elapsed, (Object) _ratio);
+    }
+
+    @Benchmark
+    public void formatPrimitive() {
+        _enabled.info.format("%d took %f", _elapsed, _ratio);
+    }
+
+    @Benchmark
+    public void formatBoxed() {
+        _enabled.info.format("%d took %f", (Object) _elapsed, (Object) _ratio);
+    }
+}
@@ -0,0 +1,74 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import com.martiansoftware.log.SingleLevelLogger;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * SingleLevelLogger.format() and print(Supplier), enabled and disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingleLevelLoggerBenchmark {
+
+    private SingleLevelLogger _enabled, _disabled;
+    private Object _a = "alpha";
+    private int _b = 42;
+    private Supplier<String> _supplier = () -> "supplied message";
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        _enabled = Log.named(BenchSupport.ENABLED).info;
+        _disabled = Log.named(BenchSupport.DISABLED).info;
+    }
+
+    @Benchmark
+    public void formatEnabled() {
+        _enabled.format("%s is %d", _a, _b);
+    }
+
+    @Benchmark
+    public void formatDisabled() {
+        _disabled.format("%s is %d", _a, _b);
+    }
+
+    @Benchmark
+    public void printSupplierEnabled() {
+        _enabled.print(_supplier);
+    }
+
+    @Benchmark
+    public void printSupplierDisabled() {
+        _disabled.print(_supplier);
+    }
+}
@@ -0,0 +1,95 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import com.martiansoftware.log.Stopwatch;
+import com.martiansoftware.log.StopwatchLog;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Opening and closing a StopwatchLog or a lightweight Stopwatch, enabled and
+ * disabled, logging each stopwatch individually, aggregating them into a
+ * histogram, or logging individually while also recording spans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StopwatchBenchmark {
+
+    @Param({"individual", "aggregated", "spans"})
+    public String mode;
+
+    private Log _enabled, _disabled;
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        if (mode.equals("aggregated")) Log.aggregateStopwatches(Duration.ofSeconds(1));
+        if (mode.equals("spans")) Log.recordSpans(1024);
+        _enabled = Log.named(BenchSupport.ENABLED);
+        _disabled = Log.named(BenchSupport.DISABLED);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Log.stopAggregatingStopwatches();
+        Log.stopRecordingSpans();
+    }
+
+    @Benchmark
+    @SuppressWarnings("try") // the resource is only opened and closed
+    public void openCloseEnabled() {
+        try (StopwatchLog sw = _enabled.info.stopwatch("bench")) {
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("try") // the resource is only opened and closed
+    public void openCloseDisabled() {
+        try (StopwatchLog sw = _disabled.info.stopwatch("bench")) {
+        }
+    }
+
+    @Benchmark
+    public void timerEnabled() {
+        try (Stopwatch sw = _enabled.info.timer("bench")) {
+            sw.lap("phase");
+        }
+    }
+
+    @Benchmark
+    public void timerDisabled() {
+        try (Stopwatch sw = _disabled.info.timer("bench")) {
+            sw.lap("phase");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Printing a 1000-line Stream one message at a time and in batches of 100
+ * lines, to an slf4j level and to the console.  Most meaningful with the
+ * "simple" profile, where each slf4j event is actually written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamPrintBenchmark {
+
+    private Log _log;
+    private List<String> _lines;
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        _log = Log.named(BenchSupport.ENABLED);
+        _lines = IntStream.range(0, 1000)
+                    .mapToObj(i -> String.format("%6d | %-20s | %10.3f", i, "row " + i, i * 1.5))
+                    .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void infoPerLine() {
+        _log.info.print(_lines.stream());
+    }
+
+    @Benchmark
+    public void infoBatched() {
+        _log.info.print(_lines.stream(), 100, 8192);
+    }
+
+    @Benchmark
+    public void coutPerLine() {
+        _log.cout.print(_lines.stream());
+    }
+
+    @Benchmark
+    public void coutBatched() {
+        _log.cout.print(_lines.stream(), 100, 8192);
+    }
+}
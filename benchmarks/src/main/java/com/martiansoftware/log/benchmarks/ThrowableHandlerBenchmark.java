@@ -0,0 +1,70 @@
+package com.martiansoftware.log.benchmarks;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Logging a Throwable with varying numbers of throwable handlers registered.
+ * Handlers only run when the level is enabled, so this is only meaningful
+ * with a real binding (-P simple).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThrowableHandlerBenchmark {
+
+    @Param({"0", "1", "10"})
+    public int handlers;
+
+    private Log _log;
+    private Exception _exception;
+    private volatile Throwable _lastHandled;
+
+    @Setup
+    public void setup() {
+        BenchSupport.init();
+        _log = Log.named(BenchSupport.ENABLED);
+        for (int i = 0; i < handlers; ++i) {
+            _log.addThrowableHandler(t -> _lastHandled = t);
+        }
+        _exception = new Exception("benchmark exception");
+    }
+
+    @Benchmark
+    public void errorWithThrowable() {
+        _log.error("failed", _exception);
+    }
+
+    @Benchmark
+    public void bareThrowable() {
+        _log.error.throwable(_exception);
+    }
+}
@@ -0,0 +1,83 @@
+package com.martiansoftware.log.elide;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+
+/**
+ * Removes com.martiansoftware.log calls below a minimum level from the
+ * project's compiled classes, in place, after compilation.  See LevelElider
+ * for exactly which calls are removed.
+ */
+@Mojo(name = "elide", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class ElideMojo extends AbstractMojo {
+
+    /**
+     * Calls below this level (trace, debug, info, warn or error) are removed.
+     */
+    @Parameter(property = "log.elide.minimumLevel", defaultValue = "info")
+    private String minimumLevel;
+    
+    @Parameter(property = "log.elide.skip", defaultValue = "false")
+    private boolean skip;
+    
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+    
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip || !classesDirectory.isDirectory()) return;
+        
+        LevelElider elider;
+        try {
+            elider = new LevelElider(minimumLevel);
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+        
+        List<Path> classes;
+        try (Stream<Path> paths = Files.walk(classesDirectory.toPath())) {
+            classes = paths.filter(p -> p.toString().endsWith(".class")).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("unable to list " + classesDirectory, e);
+        }
+        
+        int rewritten = 0;
+        for (Path p : classes) {
+            try {
+                byte[] result = elider.transform(Files.readAllBytes(p));
+                if (result != null) {
+                    Files.write(p, result);
+                    ++rewritten;
+                }
+            } catch (IOException | AnalyzerException e) {
+                throw new MojoExecutionException("unable to rewrite " + p, e);
+            }
+        }
+        getLog().info(String.format("Removed %d log calls below %s from %d of %d classes", elider.elided(), minimumLevel, rewritten, classes.size()));
+    }
+}
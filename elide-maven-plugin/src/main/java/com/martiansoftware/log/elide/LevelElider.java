@@ -0,0 +1,192 @@
+package com.martiansoftware.log.elide;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+/**
+ * Rewrites compiled classes so that calls to com.martiansoftware.log.Log and
+ * SingleLevelLogger below a minimum level are removed.  Removed are:
+ * 
+ * <ul>
+ *   <li>Log.trace(...), Log.debug(...), etc., which become pops of their
+ *   arguments and receiver;</li>
+ *   <li>Log.isTraceEnabled(...), etc., which become the constant false, so
+ *   that code guarded by them is never run and can be folded away by the
+ *   JIT;</li>
+ *   <li>print(), format(), throwable() and isEnabled() on a SingleLevelLogger
+ *   read directly from one of Log's level fields (e.g. log.trace.print(...)),
+ *   or returned by another such call (e.g. log.trace.print(a).print(b)),
+ *   which become pops of their arguments (leaving the SingleLevelLogger as
+ *   the "returned" value) or the constant false.</li>
+ * </ul>
+ * 
+ * The same calls are removed when made through a StopwatchLog.  Calls made
+ * through your own subclasses of Log are not, since recognizing them would
+ * mean loading the project's class hierarchy; call them through a Log
+ * reference if you want them removed.
+ * 
+ * Arguments are still evaluated, so their side effects are preserved; the
+ * JIT discards the ones without side effects along with the call.  A
+ * SingleLevelLogger held in a variable or passed as a parameter is left
+ * alone, since its level is not known until runtime, as are the console
+ * loggers (cout, cwarn and cerr).
+ */
+final class LevelElider {
+
+    private static final String LOG = "com/martiansoftware/log/Log";
+    private static final List<String> LOGS = Arrays.asList(LOG, "com/martiansoftware/log/StopwatchLog"); // Log and its subclasses
+    private static final String SLL = "com/martiansoftware/log/SingleLevelLogger";
+    private static final String SLL_DESC = "L" + SLL + ";";
+    private static final List<String> LEVELS = Arrays.asList("trace", "debug", "info", "warn", "error");
+    private static final List<String> SLL_METHODS = Arrays.asList("print", "format", "throwable", "isEnabled");
+    
+    private final int _minimum; // index into LEVELS; calls below this are removed
+    private int _elided = 0;
+    
+    LevelElider(String minimumLevel) {
+        _minimum = LEVELS.indexOf(minimumLevel.toLowerCase(Locale.ROOT));
+        if (_minimum == -1) throw new IllegalArgumentException("unknown level '" + minimumLevel + "' (expected one of " + LEVELS + ")");
+    }
+    
+    /**
+     * @return the number of calls removed so far
+     */
+    int elided() {
+        return _elided;
+    }
+    
+    /**
+     * @param classfile the class to rewrite
+     * @return the rewritten class, or null if it had nothing to remove
+     * @throws AnalyzerException if a method's bytecode cannot be analyzed
+     */
+    byte[] transform(byte[] classfile) throws AnalyzerException {
+        ClassNode cn = new ClassNode();
+        new ClassReader(classfile).accept(cn, 0);
+        int before = _elided;
+        for (MethodNode mn : cn.methods) elide(cn.name, mn);
+        if (_elided == before) return null;
+        // the stack holds the same types after each rewritten call as it did
+        // before, so the existing stack map frames are still valid
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cn.accept(cw);
+        return cw.toByteArray();
+    }
+    
+    private void elide(String owner, MethodNode mn) throws AnalyzerException {
+        // decide everything before rewriting anything, since the analyzed
+        // frames are indexed by instruction position
+        Frame<SourceValue>[] frames = null; // only analyzed if there's a candidate call
+        List<MethodInsnNode> removals = new ArrayList<>();
+        for (AbstractInsnNode insn : mn.instructions.toArray()) {
+            if (!(insn instanceof MethodInsnNode)) continue;
+            MethodInsnNode call = (MethodInsnNode) insn;
+            if (LOGS.contains(call.owner) && call.getOpcode() == Opcodes.INVOKEVIRTUAL) {
+                int level = logMethodLevel(call.name);
+                if (level != -1 && level < _minimum) removals.add(call);
+            } else if (isSllCall(call)) {
+                if (frames == null) frames = new Analyzer<>(new SourceInterpreter()).analyze(owner, mn);
+                int level = receiverLevel(mn, frames, call);
+                if (level != -1 && level < _minimum) removals.add(call);
+            }
+        }
+        for (MethodInsnNode call : removals) replace(mn, call);
+    }
+    
+    // the level of a Log logging or is*Enabled() method, or -1
+    private static int logMethodLevel(String name) {
+        if (name.startsWith("is") && name.endsWith("Enabled")) {
+            return LEVELS.indexOf(name.substring(2, name.length() - 7).toLowerCase(Locale.ROOT));
+        }
+        return LEVELS.indexOf(name);
+    }
+    
+    // whether an instruction is a removable SingleLevelLogger call, i.e. one
+    // that returns a boolean or its SingleLevelLogger
+    private static boolean isSllCall(AbstractInsnNode insn) {
+        if (!(insn instanceof MethodInsnNode)) return false;
+        MethodInsnNode call = (MethodInsnNode) insn;
+        if (!SLL.equals(call.owner) || !SLL_METHODS.contains(call.name)) return false;
+        Type returnType = Type.getReturnType(call.desc);
+        return returnType == Type.BOOLEAN_TYPE || SLL_DESC.equals(returnType.getDescriptor());
+    }
+    
+    // the level of the SingleLevelLogger a call is made on, or -1 if unknown
+    private static int receiverLevel(MethodNode mn, Frame<SourceValue>[] frames, MethodInsnNode call) {
+        Frame<SourceValue> frame = frames[mn.instructions.indexOf(call)];
+        if (frame == null) return -1; // unreachable
+        int receiver = frame.getStackSize() - Type.getArgumentTypes(call.desc).length - 1;
+        return sourceLevel(mn, frames, frame.getStack(receiver));
+    }
+    
+    // the level of the Log field that produced a value, either directly or
+    // via removable calls that return their SingleLevelLogger, or -1 if it
+    // didn't (definitely) come from one.  if it may have come from more than
+    // one, the highest of their levels.
+    private static int sourceLevel(MethodNode mn, Frame<SourceValue>[] frames, SourceValue value) {
+        int level = -1;
+        for (AbstractInsnNode source : value.insns) {
+            int l;
+            if (source.getOpcode() == Opcodes.GETFIELD) {
+                FieldInsnNode field = (FieldInsnNode) source;
+                l = LOGS.contains(field.owner) ? LEVELS.indexOf(field.name) : -1;
+            } else if (isSllCall(source)) {
+                l = receiverLevel(mn, frames, (MethodInsnNode) source);
+            } else {
+                return -1;
+            }
+            if (l == -1) return -1;
+            level = Math.max(level, l);
+        }
+        return level;
+    }
+    
+    // pops the call's arguments and, unless it returns a SingleLevelLogger,
+    // its receiver.  a boolean call is replaced with false, and a call
+    // returning its SingleLevelLogger leaves the receiver in place of the result.
+    private void replace(MethodNode mn, MethodInsnNode call) {
+        InsnList replacement = new InsnList();
+        Type[] args = Type.getArgumentTypes(call.desc);
+        for (int i = args.length - 1; i >= 0; --i) {
+            replacement.add(new InsnNode(args[i].getSize() == 2 ? Opcodes.POP2 : Opcodes.POP));
+        }
+        Type returnType = Type.getReturnType(call.desc);
+        if (!SLL_DESC.equals(returnType.getDescriptor())) replacement.add(new InsnNode(Opcodes.POP));
+        if (returnType == Type.BOOLEAN_TYPE) replacement.add(new InsnNode(Opcodes.ICONST_0));
+        mn.instructions.insert(call, replacement);
+        mn.instructions.remove(call);
+        ++_elided;
+    }
+}
@@ -0,0 +1,76 @@
+package com.martiansoftware.log.elide;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import com.martiansoftware.log.StopwatchLog;
+
+/**
+ * Log calls for LevelEliderTest to rewrite.  Every argument goes through
+ * arg(), so the test can check that arguments are still evaluated after
+ * their calls have been removed.
+ */
+public class ElisionSamples {
+
+    public static int evaluated = 0;
+    
+    static <T> T arg(T value) {
+        ++evaluated;
+        return value;
+    }
+    
+    public static boolean guarded(Log log) {
+        boolean ran = false;
+        if (log.isTraceEnabled()) {
+            ran = true;
+        }
+        return ran;
+    }
+    
+    public static boolean sllGuarded(Log log) {
+        return log.debug.isEnabled();
+    }
+    
+    public static void slf4j(Log log) {
+        log.trace("a message");
+        log.trace("{} and {}", arg("a"), arg("b"));
+        log.debug("{}, {} and {}", arg("a"), arg("b"), arg("c"));
+        log.debug("failed", arg(new Exception("not logged")));
+    }
+    
+    // long and double arguments take two stack slots each
+    public static void primitives(Log log) {
+        log.trace("{}", arg(1L));
+        log.trace("{} and {}", arg(1L), arg(2.5));
+        log.debug("{} and {}", arg(2.5), arg("a"));
+        log.debug("{} and {}", arg(3), arg(true));
+        log.debug.format("%d and %f", arg(1L), arg(2.5));
+    }
+    
+    public static void chained(Log log) {
+        log.trace.print(arg("a")).print(arg("b")).format("%d and %f", arg(1L), arg(2.5)).print(arg("c"));
+    }
+    
+    public static void stopwatchLog(StopwatchLog sw) {
+        sw.trace("{}", arg("a"));
+        sw.debug.print(arg("b")).print(arg("c"));
+    }
+    
+    // at or above the minimum level, so left alone
+    public static void kept(Log log) {
+        log.info("{}", arg("a"));
+        log.warn.print(arg("b")).print(arg("c"));
+    }
+}
@@ -0,0 +1,194 @@
+package com.martiansoftware.log.elide;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import com.martiansoftware.log.Log;
+import com.martiansoftware.log.LogMetrics;
+import com.martiansoftware.log.StopwatchLog;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Properties;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.event.Level;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Rewrites ElisionSamples with a minimum level of info, loads the result
+ * (which has the JVM verify it), and runs it with every level enabled, so
+ * that any trace or debug call that survived would show up in the metrics.
+ */
+public class LevelEliderTest {
+
+    private static Class<?> _elided;
+    private static int _elidedCalls;
+    private Log _log;
+    
+    @BeforeClass
+    public static void rewriteSamples() throws Exception {
+        LevelElider elider = new LevelElider("info");
+        byte[] rewritten = elider.transform(classfile(ElisionSamples.class));
+        _elidedCalls = elider.elided();
+        _elided = new SingleClassLoader(ElisionSamples.class.getName(), rewritten).loadClass(ElisionSamples.class.getName());
+        
+        Properties everything = new Properties();
+        everything.setProperty("*", "trace");
+        Log.setLevelOverrides(everything);
+        Log.enableMetrics(true);
+    }
+    
+    @AfterClass
+    public static void restore() {
+        Log.enableMetrics(false);
+        Log.clearLevelOverrides();
+    }
+    
+    @Before
+    public void reset() throws Exception {
+        Log.resetMetrics();
+        _elided.getField("evaluated").setInt(null, 0);
+        _log = Log.named("elide-test");
+    }
+    
+    @Test
+    public void countsEveryRemovedCall() {
+        // 2 guards, 4 slf4j, 5 primitive, 4 chained, 3 stopwatch
+        assertEquals(18, _elidedCalls);
+    }
+    
+    @Test
+    public void leavesClassesWithNothingToRemoveAlone() throws Exception {
+        assertNull(new LevelElider("trace").transform(classfile(ElisionSamples.class)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownLevels() {
+        new LevelElider("verbose");
+    }
+    
+    @Test
+    public void guardsBecomeFalse() throws Exception {
+        assertTrue(ElisionSamples.guarded(_log));
+        assertTrue(ElisionSamples.sllGuarded(_log));
+        assertFalse((Boolean) run("guarded", _log));
+        assertFalse((Boolean) run("sllGuarded", _log));
+    }
+    
+    @Test
+    public void removesSlf4jCalls() throws Exception {
+        assertRemoved("slf4j", 6);
+    }
+    
+    @Test
+    public void removesCallsWithWideArguments() throws Exception {
+        assertRemoved("primitives", 9);
+    }
+    
+    @Test
+    public void removesChainedCalls() throws Exception {
+        assertRemoved("chained", 5);
+    }
+    
+    @Test
+    public void removesStopwatchLogCalls() throws Exception {
+        try (StopwatchLog sw = _log.info.stopwatch("elide-test")) {
+            run("stopwatchLog", sw);
+        }
+        assertEquals(3, _elided.getField("evaluated").getInt(null));
+        assertNoTraceOrDebug();
+    }
+    
+    @Test
+    public void keepsCallsAtTheMinimumLevel() throws Exception {
+        run("kept", _log);
+        assertEquals(3, _elided.getField("evaluated").getInt(null));
+        assertEquals(1, metrics().getCalls(Level.INFO));
+        assertEquals(2, metrics().getCalls(Level.WARN));
+    }
+    
+    private void assertRemoved(String method, int arguments) throws Exception {
+        run(method, _log);
+        assertEquals("arguments evaluated", arguments, _elided.getField("evaluated").getInt(null));
+        assertNoTraceOrDebug();
+    }
+    
+    private void assertNoTraceOrDebug() {
+        LogMetrics m = metrics();
+        if (m == null) return; // nothing at all was logged under this name
+        assertEquals(0, m.getCalls(Level.TRACE) + m.getSuppressed(Level.TRACE));
+        assertEquals(0, m.getCalls(Level.DEBUG) + m.getSuppressed(Level.DEBUG));
+    }
+    
+    // metrics are kept by backend logger name, which depends on the binding
+    private LogMetrics metrics() {
+        for (LogMetrics m : Log.metrics()) {
+            if (m.getName().equals(_log.getName())) return m;
+        }
+        return null;
+    }
+    
+    private static Object run(String method, Object arg) throws Exception {
+        for (Method m : _elided.getMethods()) {
+            if (m.getName().equals(method)) {
+                try {
+                    return m.invoke(null, arg);
+                } catch (InvocationTargetException e) {
+                    throw (Exception) e.getCause();
+                }
+            }
+        }
+        throw new NoSuchMethodException(method);
+    }
+    
+    private static byte[] classfile(Class<?> c) throws IOException {
+        try (InputStream in = c.getResourceAsStream(c.getSimpleName() + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[4096];
+            for (int n = in.read(buf); n != -1; n = in.read(buf)) out.write(buf, 0, n);
+            return out.toByteArray();
+        }
+    }
+    
+    // defines one class from the supplied bytes, delegating everything else
+    private static class SingleClassLoader extends ClassLoader {
+        private final String _name;
+        private final byte[] _classfile;
+        
+        SingleClassLoader(String name, byte[] classfile) {
+            super(LevelEliderTest.class.getClassLoader());
+            _name = name;
+            _classfile = classfile;
+        }
+        
+        @Override protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(_name)) return super.loadClass(name, resolve);
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (c == null) c = defineClass(name, _classfile, 0, _classfile.length);
+                if (resolve) resolveClass(c);
+                return c;
+            }
+        }
+    }
+}
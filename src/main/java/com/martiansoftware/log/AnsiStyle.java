@@ -0,0 +1,113 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.function.UnaryOperator;
+import org.fusesource.jansi.Ansi;
+import org.fusesource.jansi.AnsiRenderer;
+import org.fusesource.jansi.AnsiString;
+
+/**
+ * Renders console messages for one console level, producing both the colored
+ * form (for the console) and the plain form (for slf4j) in a single pass.
+ * 
+ * Messages without jansi markup or escape sequences never touch jansi: they
+ * are simply wrapped in the level's escape sequences, which are rendered once
+ * for each state of Ansi.isEnabled() and cached.  Messages with markup are
+ * rendered once and then stripped, and the results are cached for messages
+ * that repeat.
+ */
+final class AnsiStyle {
+
+    private static final int MARKUP_CACHE_SIZE = 256;
+    private static final ClockCache<String, Rendered> _markup = new ClockCache<>(MARKUP_CACHE_SIZE);
+    
+    private static final char ESC = '\u001b';
+    private static final String SENTINEL = "\u0000";
+    
+    private final UnaryOperator<Ansi> _config;
+    
+    // {prefix, suffix} for each state of Ansi.isEnabled(); racy but idempotent
+    private volatile String[] _enabledEscapes, _disabledEscapes;
+    
+    AnsiStyle(UnaryOperator<Ansi> config) {
+        _config = config;
+    }
+    
+    /**
+     * The colored and plain forms of a message
+     */
+    static final class Rendered {
+        final String colored;
+        final String plain;
+        final boolean ansiEnabled; // Ansi.isEnabled() when rendered
+        
+        Rendered(String colored, String plain, boolean ansiEnabled) {
+            this.colored = colored;
+            this.plain = plain;
+            this.ansiEnabled = ansiEnabled;
+        }
+    }
+    
+    /**
+     * Returns true if the message contains neither jansi markup nor escape
+     * sequences, in which case it is its own plain form and decorate() gives
+     * its colored form.
+     */
+    static boolean isPlain(String s) {
+        return s.indexOf(ESC) < 0 && !s.contains("@|");
+    }
+    
+    /**
+     * Wraps a plain message in this style's escape sequences
+     */
+    String decorate(String s) {
+        String[] escapes = escapes();
+        if (escapes[0].isEmpty() && escapes[1].isEmpty()) return s;
+        return new StringBuilder(escapes[0].length() + s.length() + escapes[1].length())
+                    .append(escapes[0]).append(s).append(escapes[1]).toString();
+    }
+    
+    /**
+     * Renders a message that is not plain.  As with jansi itself, any markup
+     * in the message overrides this style.
+     */
+    Rendered render(String s) {
+        if (!s.contains("@|")) return new Rendered(decorate(s), strip(s), Ansi.isEnabled()); // raw escapes only
+        Rendered r = _markup.get(s, AnsiStyle::renderMarkup);
+        return (r != null && r.ansiEnabled == Ansi.isEnabled()) ? r : renderMarkup(s);
+    }
+    
+    private static Rendered renderMarkup(String s) {
+        String colored = AnsiRenderer.render(s);
+        return new Rendered(colored, strip(colored), Ansi.isEnabled());
+    }
+    
+    private static String strip(String s) {
+        return new AnsiString(s).getPlain().toString();
+    }
+    
+    private String[] escapes() {
+        boolean enabled = Ansi.isEnabled();
+        String[] result = enabled ? _enabledEscapes : _disabledEscapes;
+        if (result == null) {
+            String rendered = _config.apply(Ansi.ansi()).a(SENTINEL).reset().toString();
+            int i = rendered.indexOf(SENTINEL);
+            result = new String[] { rendered.substring(0, i), rendered.substring(i + SENTINEL.length()) };
+            if (enabled) _enabledEscapes = result; else _disabledEscapes = result;
+        }
+        return result;
+    }
+}
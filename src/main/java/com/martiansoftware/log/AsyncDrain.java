@@ -0,0 +1,265 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue drained in batches by a single consumer, either on a
+ * dedicated daemon thread or on a caller-supplied Executor (or on the
+ * offering thread, if the Executor rejects the drain).  Overflow is
+ * handled according to an OverflowPolicy.  A JVM shutdown hook flushes
+ * anything still queued on orderly exit, unless the drain has been closed
+ * first.  A failing consumer is reported on stderr and does not stop the
+ * drain.
+ */
+final class AsyncDrain<T> {
+
+    private static final int MAX_BATCH = 256;
+    private static final long SHUTDOWN_FLUSH_MILLIS = 5000;
+    private static final long BLOCK_POLL_MILLIS = 100; // how often a BLOCKed offer() checks for close()
+    
+    private final ArrayBlockingQueue<T> _queue;
+    private final OverflowPolicy _policy;
+    private final int _sampleOneIn;
+    private final Consumer<List<T>> _consumer;
+    private final Executor _executor; // null if using our own thread
+    private final Thread _thread; // null if using an executor
+    private final Thread _shutdownHook;
+    private volatile boolean _closed = false;
+    private final AtomicBoolean _scheduled = new AtomicBoolean(false); // executor mode only
+    
+    private final AtomicLong _accepted = new AtomicLong(); // items successfully queued
+    private final AtomicLong _finished = new AtomicLong(); // items consumed or evicted
+    private final LongAdder _dropped = new LongAdder();
+    private final AtomicLong _overflows = new AtomicLong(); // for SAMPLE
+    private final Object _progress = new Object();
+    
+    AsyncDrain(String name, int capacity, OverflowPolicy policy, int sampleOneIn, Executor executor, Consumer<List<T>> consumer) {
+        if (policy == null) throw new IllegalArgumentException("an OverflowPolicy is required");
+        if (sampleOneIn < 1) throw new IllegalArgumentException("sampleOneIn must be >= 1");
+        _queue = new ArrayBlockingQueue<>(capacity);
+        _policy = policy;
+        _sampleOneIn = sampleOneIn;
+        _consumer = consumer;
+        _executor = executor;
+        
+        if (executor == null) {
+            _thread = new Thread(this::run, name);
+            _thread.setDaemon(true);
+            _thread.start();
+        } else {
+            _thread = null;
+        }
+        _shutdownHook = new Thread(() -> flush(SHUTDOWN_FLUSH_MILLIS), name + "-shutdown");
+        Runtime.getRuntime().addShutdownHook(_shutdownHook);
+    }
+    
+    /**
+     * Queues an item, applying this drain's OverflowPolicy if the queue is full.
+     * @return false if the item was discarded, or the drain has been closed
+     */
+    boolean offer(T item) {
+        boolean queued = !_closed && _queue.offer(item);
+        if (!queued && !_closed) {
+            switch (_policy) {
+                case BLOCK:
+                    queued = put(item);
+                    break;
+                case DROP_NEWEST:
+                    break;
+                case SAMPLE:
+                    if (_overflows.getAndIncrement() % _sampleOneIn == 0) queued = displaceOldest(item);
+                    break;
+                case DROP_OLDEST:
+                    queued = displaceOldest(item);
+                    break;
+            }
+        }
+        // close() may have drained the queue for the last time after we
+        // checked; take the item back unless it has already been consumed
+        if (queued && _closed && _queue.remove(item)) queued = false;
+        if (!queued) {
+            _dropped.increment();
+            return false;
+        }
+        _accepted.incrementAndGet();
+        if (_executor != null) schedule();
+        return true;
+    }
+    
+    // executor mode: starts a drain unless one is already under way.  if the
+    // executor rejects it (e.g. it is saturated or shut down), the caller
+    // drains the queue itself rather than leaving it stranded
+    private void schedule() {
+        if (!_scheduled.compareAndSet(false, true)) return;
+        try {
+            _executor.execute(this::drainScheduled);
+        } catch (RuntimeException e) {
+            drainScheduled();
+        }
+    }
+    
+    // waits for room in the queue, giving up if the drain is closed
+    private boolean put(T item) {
+        try {
+            while (!_closed) {
+                if (_queue.offer(item, BLOCK_POLL_MILLIS, TimeUnit.MILLISECONDS)) return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+    
+    private boolean displaceOldest(T item) {
+        boolean queued;
+        while (!(queued = _queue.offer(item))) {
+            if (_queue.poll() != null) evicted();
+        }
+        return queued;
+    }
+    
+    private void evicted() {
+        _dropped.increment();
+        finished(1);
+    }
+    
+    private void finished(int n) {
+        _finished.addAndGet(n);
+        synchronized(_progress) {
+            _progress.notifyAll();
+        }
+    }
+    
+    // dedicated thread mode
+    private void run() {
+        List<T> batch = new ArrayList<>(MAX_BATCH);
+        while (!_closed) {
+            try {
+                batch.add(_queue.take());
+            } catch (InterruptedException e) {
+                continue; // we only stop when closed
+            }
+            _queue.drainTo(batch, MAX_BATCH - 1);
+            consume(batch);
+        }
+        Thread.interrupted(); // don't let close()'s interrupt reach the consumer
+        while (_queue.drainTo(batch, MAX_BATCH) > 0) consume(batch);
+    }
+    
+    // executor mode
+    private void drainScheduled() {
+        List<T> batch = new ArrayList<>(MAX_BATCH);
+        do {
+            while (_queue.drainTo(batch, MAX_BATCH) > 0) consume(batch);
+            _scheduled.set(false);
+            // anything queued after our last drainTo but before we cleared the
+            // flag would otherwise sit there until the next offer()
+        } while (!_queue.isEmpty() && _scheduled.compareAndSet(false, true));
+    }
+    
+    private void consume(List<T> batch) {
+        int n = batch.size();
+        try {
+            _consumer.accept(batch);
+        } catch (Throwable t) {
+            System.err.format("%s failed:%n", _consumer);
+            t.printStackTrace();
+        } finally {
+            batch.clear();
+            finished(n);
+        }
+    }
+    
+    /**
+     * Waits until everything queued before this call has been consumed.
+     * @return false if the timeout expired first
+     */
+    boolean flush(long timeoutMillis) {
+        long target = _accepted.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized(_progress) {
+            while (_finished.get() < target) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) return false;
+                try {
+                    _progress.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Stops accepting items, waits (for up to timeoutMillis) until everything
+     * already queued has been consumed, and then stops the drain's thread and
+     * removes its shutdown hook.  Items offered after this are discarded.
+     * @return false if the timeout expired before everything was consumed
+     */
+    synchronized boolean close(long timeoutMillis) {
+        if (_closed) return true;
+        _closed = true;
+        boolean flushed;
+        if (_thread != null) {
+            _thread.interrupt();
+            try {
+                _thread.join(timeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flushed = !_thread.isAlive();
+        } else {
+            flushed = flush(timeoutMillis);
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(_shutdownHook);
+        } catch (IllegalStateException e) {
+            // already shutting down; the hook is running or about to
+        }
+        return flushed;
+    }
+    
+    boolean isClosed() {
+        return _closed;
+    }
+    
+    OverflowPolicy policy() {
+        return _policy;
+    }
+    
+    long accepted() {
+        return _accepted.get();
+    }
+    
+    long dropped() {
+        return _dropped.sum();
+    }
+    
+    int queued() {
+        return _queue.size();
+    }
+}
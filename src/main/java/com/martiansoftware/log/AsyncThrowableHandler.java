@@ -0,0 +1,140 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A throwable handler that hands Throwables off to a bounded queue and runs
+ * the wrapped handler on a background thread, so that expensive handlers
+ * (error reporting, log uploads, etc.) don't add to the latency of the
+ * thread that logged the Throwable.  Register it like any other handler:
+ * 
+ * <pre>
+ * Log.addGlobalThrowableHandler(new AsyncThrowableHandler(reporter, 1024, OverflowPolicy.DROP_OLDEST));
+ * </pre>
+ * 
+ * Queued Throwables are handled on a dedicated daemon thread, or on a
+ * caller-supplied Executor.  Anything still queued when the JVM shuts down
+ * in an orderly fashion is handled (for up to five seconds) before exit.
+ * An AsyncThrowableHandler that is no longer needed should be removed from
+ * the Logs it was added to and then closed, which stops its thread.
+ */
+public class AsyncThrowableHandler implements Consumer<Throwable>, AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+    public static final int DEFAULT_SAMPLE_ONE_IN = 10;
+    
+    private static final long CLOSE_MILLIS = 5000;
+    
+    private final Consumer<Throwable> _handler;
+    private final AsyncDrain<Throwable> _drain;
+    private final LongAdder _handlerNanos = new LongAdder();
+    
+    /**
+     * Creates a new AsyncThrowableHandler with a queue of DEFAULT_QUEUE_SIZE
+     * that drops new Throwables when full, running on its own thread.
+     * 
+     * @param handler the handler to run asynchronously
+     */
+    public AsyncThrowableHandler(Consumer<Throwable> handler) {
+        this(handler, DEFAULT_QUEUE_SIZE, OverflowPolicy.DROP_NEWEST);
+    }
+    
+    public AsyncThrowableHandler(Consumer<Throwable> handler, int queueSize, OverflowPolicy policy) {
+        this(handler, queueSize, policy, null);
+    }
+    
+    /**
+     * Creates a new AsyncThrowableHandler.  For OverflowPolicy.SAMPLE, one in
+     * every DEFAULT_SAMPLE_ONE_IN overflowing Throwables is kept.
+     * 
+     * @param handler the handler to run asynchronously
+     * @param queueSize the maximum number of Throwables waiting to be handled
+     * @param policy what to do when the queue is full
+     * @param executor the Executor on which to run the handler, or null to use a dedicated thread
+     */
+    public AsyncThrowableHandler(Consumer<Throwable> handler, int queueSize, OverflowPolicy policy, Executor executor) {
+        _handler = handler;
+        _drain = new AsyncDrain<>("martian-log-throwable-handler", queueSize, policy, DEFAULT_SAMPLE_ONE_IN, executor, batch -> {
+            for (Throwable t : batch) handle(t);
+        });
+    }
+    
+    private void handle(Throwable t) {
+        long start = System.nanoTime();
+        try {
+            _handler.accept(t);
+        } catch (Throwable e) {
+            System.err.format("Throwable handler %s failed:%n", _handler);
+            e.printStackTrace();
+        } finally {
+            _handlerNanos.add(System.nanoTime() - start);
+        }
+    }
+    
+    @Override
+    public void accept(Throwable t) {
+        _drain.offer(t);
+    }
+    
+    /**
+     * Waits until every Throwable queued before this call has been handled.
+     * 
+     * @param timeoutMillis the maximum time to wait
+     * @return false if the timeout expired first
+     */
+    public boolean flush(long timeoutMillis) {
+        return _drain.flush(timeoutMillis);
+    }
+    
+    /**
+     * Handles any Throwables already queued (waiting up to five seconds for
+     * them), then stops the background thread.  Throwables passed to this
+     * handler after it is closed are dropped.
+     */
+    @Override
+    public void close() {
+        _drain.close(CLOSE_MILLIS);
+    }
+    
+    /**
+     * @return the number of Throwables queued for handling so far
+     */
+    public long enqueued() {
+        return _drain.accepted();
+    }
+    
+    /**
+     * @return the number of Throwables discarded due to the OverflowPolicy so far
+     */
+    public long dropped() {
+        return _drain.dropped();
+    }
+    
+    /**
+     * @return the total time spent in the wrapped handler so far, in nanoseconds
+     */
+    public long handlerNanos() {
+        return _handlerNanos.sum();
+    }
+    
+    @Override
+    public String toString() {
+        return FastFormatter.printf("AsyncThrowableHandler[%s]", _handler);
+    }
+}
@@ -0,0 +1,64 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+/**
+ * A point-in-time snapshot of the counters of one of the library's internal
+ * caches.  Counters are cumulative since the cache was created (or last
+ * resized).
+ */
+public final class CacheStats {
+    
+    private final int _capacity, _size;
+    private final long _hits, _misses, _evictions;
+    
+    CacheStats(int capacity, int size, long hits, long misses, long evictions) {
+        _capacity = capacity;
+        _size = size;
+        _hits = hits;
+        _misses = misses;
+        _evictions = evictions;
+    }
+    
+    public int capacity() {
+        return _capacity;
+    }
+    
+    public int size() {
+        return _size;
+    }
+    
+    public long hits() {
+        return _hits;
+    }
+    
+    public long misses() {
+        return _misses;
+    }
+    
+    public long evictions() {
+        return _evictions;
+    }
+    
+    public double hitRate() {
+        long total = _hits + _misses;
+        return total == 0 ? 0.0 : (double) _hits / total;
+    }
+    
+    @Override
+    public String toString() {
+        return FastFormatter.printf("capacity=%d, size=%d, hits=%d, misses=%d, evictions=%d", _capacity, _size, _hits, _misses, _evictions);
+    }
+}
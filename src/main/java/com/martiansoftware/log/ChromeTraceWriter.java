@@ -0,0 +1,97 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Streams span trees to a Writer in Chrome Trace Event JSON format, which can
+ * be loaded into chrome://tracing or Perfetto.  Each span is written as a
+ * complete ("X") event, with timestamps in microseconds relative to a
+ * specified origin, and each thread is named with a metadata ("M") event.
+ * 
+ * Closing a ChromeTraceWriter finishes the JSON document and flushes, but
+ * does not close the underlying Writer.
+ */
+final class ChromeTraceWriter implements AutoCloseable {
+
+    private static final int PID = 1;
+    
+    private final Writer _out;
+    private final Set<Long> _namedThreads = new HashSet<>();
+    private final StringBuilder _sb = new StringBuilder(256);
+    private final long _origin;
+    private boolean _first = true;
+    
+    ChromeTraceWriter(Writer out, long originNanos) throws IOException {
+        _out = out;
+        _origin = originNanos;
+        _out.write("{\"traceEvents\":[");
+    }
+    
+    void write(SpanRecorder.SpanTree tree) throws IOException {
+        if (_namedThreads.add(tree.threadId)) {
+            begin().append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":").append(PID)
+                   .append(",\"tid\":").append(tree.threadId)
+                   .append(",\"args\":{\"name\":");
+            appendString(tree.threadName).append("}}");
+            flushEvent();
+        }
+        for (int i = 0; i < tree.names.length; ++i) {
+            begin().append("{\"name\":");
+            appendString(tree.names[i]).append(",\"ph\":\"X\",\"ts\":");
+            appendMicros(tree.starts[i] - _origin).append(",\"dur\":");
+            appendMicros(tree.ends[i] - tree.starts[i]).append(",\"pid\":").append(PID)
+                   .append(",\"tid\":").append(tree.threadId).append('}');
+            flushEvent();
+        }
+    }
+    
+    private StringBuilder begin() {
+        _sb.setLength(0);
+        if (!_first) _sb.append(",\n");
+        _first = false;
+        return _sb;
+    }
+    
+    private void flushEvent() throws IOException {
+        _out.append(_sb);
+    }
+    
+    private StringBuilder appendMicros(long nanos) {
+        if (nanos < 0) {
+            _sb.append('-');
+            nanos = -nanos;
+        }
+        _sb.append(nanos / 1000).append('.');
+        long frac = nanos % 1000;
+        if (frac < 100) _sb.append('0');
+        if (frac < 10) _sb.append('0');
+        return _sb.append(frac);
+    }
+    
+    private StringBuilder appendString(String s) {
+        return Json.appendString(_sb, s);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        _out.write("]}\n");
+        _out.flush();
+    }
+}
@@ -0,0 +1,121 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded, concurrent cache using CLOCK (second chance) eviction.
+ * 
+ * Lookups are lock-free.  Insertions take a lock, but a key is only admitted
+ * the second time it is seen within a recent window (tracked by a small,
+ * lossy "doorkeeper" table of hash codes), so values computed from keys that
+ * never repeat - such as dynamically built format strings - never displace
+ * the entries that make up most of the traffic.
+ */
+final class ClockCache<K, V> {
+
+    private final int _capacity;
+    private final ConcurrentHashMap<K, Entry<K, V>> _map;
+    private final Entry<K, V>[] _ring; // guarded by _lock
+    private final int[] _doorkeeper; // racy by design; a lost update only delays admission
+    private final Object _lock = new Object();
+    private int _size, _hand; // guarded by _lock
+    
+    private final LongAdder _hits = new LongAdder();
+    private final LongAdder _misses = new LongAdder();
+    private final LongAdder _evictions = new LongAdder();
+    
+    private static class Entry<K, V> {
+        final K key;
+        final V value;
+        volatile boolean referenced = true;
+        
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+    
+    ClockCache(int capacity) {
+        _capacity = Math.max(0, capacity);
+        _map = new ConcurrentHashMap<>(Math.max(16, _capacity * 2));
+        _ring = newRing(_capacity);
+        int dk = Integer.highestOneBit(Math.max(1, _capacity * 2) - 1) << 1;
+        _doorkeeper = new int[Math.max(2, dk)];
+    }
+    
+    // generic arrays can't be created directly; the array never escapes, so
+    // only Entry<K, V>s are ever stored in it
+    @SuppressWarnings("unchecked")
+    private static <K, V> Entry<K, V>[] newRing(int capacity) {
+        return (Entry<K, V>[]) new Entry<?, ?>[capacity];
+    }
+    
+    /**
+     * Returns the cached value for the specified key, computing and caching
+     * it if the key has been seen recently.  Returns null if the key is not
+     * (yet) cached, in which case the caller should do the work uncached.
+     */
+    V get(K key, Function<K, V> compute) {
+        if (_capacity == 0) return null;
+        Entry<K, V> e = _map.get(key);
+        if (e != null) {
+            if (!e.referenced) e.referenced = true;
+            _hits.increment();
+            return e.value;
+        }
+        _misses.increment();
+        return admit(key) ? insert(key, compute.apply(key)) : null;
+    }
+
+    private boolean admit(K key) {
+        int h = key.hashCode();
+        if (h == 0) h = 1; // 0 marks an empty slot
+        int slot = (h ^ (h >>> 16)) & (_doorkeeper.length - 1);
+        if (_doorkeeper[slot] == h) return true;
+        _doorkeeper[slot] = h;
+        return false;
+    }
+    
+    private V insert(K key, V value) {
+        synchronized(_lock) {
+            Entry<K, V> existing = _map.get(key);
+            if (existing != null) return existing.value;
+            
+            Entry<K, V> e = new Entry<>(key, value);
+            if (_size < _capacity) {
+                _ring[_size++] = e;
+            } else {
+                while (_ring[_hand].referenced) {
+                    _ring[_hand].referenced = false;
+                    _hand = (_hand + 1) % _capacity;
+                }
+                _map.remove(_ring[_hand].key);
+                _evictions.increment();
+                _ring[_hand] = e;
+                _hand = (_hand + 1) % _capacity;
+            }
+            _map.put(key, e);
+            return value;
+        }
+    }
+    
+    CacheStats stats() {
+        return new CacheStats(_capacity, _map.size(), _hits.sum(), _misses.sum(), _evictions.sum());
+    }
+}
@@ -0,0 +1,97 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Writes console output for the cout, cwarn and cerr SingleLevelLoggers,
+ * either directly on the calling thread (the default) or asynchronously.
+ * 
+ * In asynchronous mode, lines go into a single bounded queue drained by one
+ * writer thread, which writes each run of consecutive lines for the same
+ * stream with a single print() and flush().  Because there is only one queue,
+ * lines are written in the order they were logged, including the relative
+ * order of cwarn and cerr output on stderr.
+ * 
+ * Switching modes closes the old queue after writing out what it holds.  A
+ * line that a logging thread offers to the old queue after that is rejected
+ * and written directly instead, so no line is lost in the switch.
+ */
+final class Console {
+
+    private static volatile AsyncDrain<Line> _async; // null if synchronous
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final long SWITCH_FLUSH_MILLIS = 5000;
+    
+    private Console() {}
+    
+    private static class Line {
+        final PrintStream out;
+        final String text;
+        
+        Line(PrintStream out, String text) {
+            this.out = out;
+            this.text = text;
+        }
+    }
+    
+    static void println(PrintStream out, String s) {
+        AsyncDrain<Line> async = _async;
+        if (async == null) {
+            out.println(s);
+        } else if (!async.offer(new Line(out, s)) && (async.isClosed() || async.policy() == OverflowPolicy.BLOCK)) {
+            out.println(s); // switched to synchronous, or interrupted while waiting; don't lose the line
+        }
+    }
+    
+    static synchronized void useAsync(int capacity, OverflowPolicy policy) {
+        useSync();
+        _async = new AsyncDrain<>("martian-log-console", capacity, policy, AsyncThrowableHandler.DEFAULT_SAMPLE_ONE_IN, null, Console::write);
+    }
+    
+    static synchronized void useSync() {
+        AsyncDrain<Line> async = _async;
+        _async = null;
+        if (async != null) async.close(SWITCH_FLUSH_MILLIS);
+    }
+    
+    static boolean flush(long timeoutMillis) {
+        AsyncDrain<Line> async = _async;
+        return async == null || async.flush(timeoutMillis);
+    }
+    
+    private static void write(List<Line> batch) {
+        StringBuilder sb = new StringBuilder();
+        PrintStream current = null;
+        for (Line line : batch) {
+            if (line.out != current) {
+                write(current, sb);
+                current = line.out;
+            }
+            sb.append(line.text).append(LINE_SEPARATOR);
+        }
+        write(current, sb);
+    }
+    
+    private static void write(PrintStream out, StringBuilder sb) {
+        if (out != null && sb.length() > 0) {
+            out.print(sb);
+            out.flush();
+        }
+        sb.setLength(0);
+    }
+}
@@ -0,0 +1,233 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A throwable handler that forwards only the first occurrence of each
+ * distinct exception within a time window to the handler it wraps, so that
+ * a failing dependency logging the same exception thousands of times a
+ * second doesn't drown (for example) an error reporting handler:
+ * 
+ * <pre>
+ * Log.addGlobalThrowableHandler(new DeduplicatingThrowableHandler(reporter));
+ * </pre>
+ * 
+ * Exceptions are considered duplicates if they have the same class and the
+ * same top stack frames.  When a window in which duplicates were suppressed
+ * ends, a "seen N more times" summary for it is logged to the summary
+ * SingleLevelLogger: by a background sweep that runs once per window, or
+ * sooner if the exception recurs (and is forwarded again) first.
+ * 
+ * Recent fingerprints are kept in a fixed-size table; the duplicate path
+ * takes no locks and allocates nothing beyond the copy of the stack trace
+ * that Throwable.getStackTrace() makes.  If the table fills up, the least
+ * recently forwarded fingerprint nearby is forgotten, after logging the
+ * summary for any duplicates it had suppressed.
+ */
+public class DeduplicatingThrowableHandler implements Consumer<Throwable> {
+
+    public static final int DEFAULT_FRAMES = 5;
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+    
+    private static final int TABLE_SIZE = 1024; // must be a power of two
+    private static final int MAX_PROBES = 4;
+    
+    // hash of each Throwable class' name, computed once per class
+    private static final ClassValue<Long> CLASS_HASH = new ClassValue<Long>() {
+        @Override protected Long computeValue(Class<?> c) {
+            long h = 1125899906842597L;
+            String name = c.getName();
+            for (int i = 0; i < name.length(); ++i) h = 31 * h + name.charAt(i);
+            return h;
+        }
+    };
+    
+    // runs the summary sweeps of every DeduplicatingThrowableHandler
+    private static final ScheduledExecutorService SWEEPER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "martian-log-deduplication-sweeper");
+        t.setDaemon(true);
+        return t;
+    });
+    
+    private final Consumer<Throwable> _handler;
+    private final int _frames;
+    private final long _windowNanos;
+    private final SingleLevelLogger _summaries;
+    
+    // each slot holds the Entry for one fingerprint, or null.  an Entry is
+    // fully built before it is published to its slot.
+    private final AtomicReferenceArray<Entry> _entries = new AtomicReferenceArray<>(TABLE_SIZE);
+    
+    private static class Entry {
+        final long fingerprint;
+        final String description; // for summaries
+        final AtomicLong windowStart;
+        final AtomicLong suppressed = new AtomicLong();
+        
+        Entry(long fingerprint, Throwable t, long now) {
+            this.fingerprint = fingerprint;
+            this.description = Log.defaultMessageForThrowable(t);
+            this.windowStart = new AtomicLong(now);
+        }
+    }
+    
+    // only weakly refers to its handler, so that a handler that is no longer
+    // used can be collected, which stops its sweep
+    private static class Sweep implements Runnable {
+        private final WeakReference<DeduplicatingThrowableHandler> _handler;
+        volatile ScheduledFuture<?> future;
+        
+        Sweep(DeduplicatingThrowableHandler handler) {
+            _handler = new WeakReference<>(handler);
+        }
+        
+        @Override public void run() {
+            DeduplicatingThrowableHandler h = _handler.get();
+            if (h != null) {
+                h.sweep(System.nanoTime());
+            } else if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+    
+    /**
+     * Creates a new DeduplicatingThrowableHandler comparing DEFAULT_FRAMES
+     * stack frames over a DEFAULT_WINDOW window, logging summaries as
+     * warnings to this class' Log.
+     * 
+     * @param handler the handler to receive deduplicated Throwables
+     */
+    public DeduplicatingThrowableHandler(Consumer<Throwable> handler) {
+        this(handler, DEFAULT_FRAMES, DEFAULT_WINDOW, Log.forClass(DeduplicatingThrowableHandler.class).warn);
+    }
+    
+    /**
+     * Creates a new DeduplicatingThrowableHandler.
+     * 
+     * @param handler the handler to receive deduplicated Throwables
+     * @param frames the number of top stack frames that identify an exception
+     * @param window how long to suppress duplicates after forwarding an exception
+     * @param summaries where to log "seen N more times" summaries
+     */
+    public DeduplicatingThrowableHandler(Consumer<Throwable> handler, int frames, Duration window, SingleLevelLogger summaries) {
+        if (frames < 0) throw new IllegalArgumentException("frames must be >= 0");
+        _handler = handler;
+        _frames = frames;
+        _windowNanos = window.toNanos();
+        _summaries = summaries;
+        
+        long sweepNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), _windowNanos);
+        Sweep sweep = new Sweep(this);
+        sweep.future = SWEEPER.scheduleAtFixedRate(sweep, sweepNanos, sweepNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private long fingerprint(Throwable t) {
+        long h = CLASS_HASH.get(t.getClass());
+        StackTraceElement[] stack = t.getStackTrace();
+        int n = Math.min(_frames, stack.length);
+        for (int i = 0; i < n; ++i) {
+            StackTraceElement e = stack[i];
+            h = 31 * h + e.getClassName().hashCode();
+            h = 31 * h + e.getMethodName().hashCode();
+            h = 31 * h + e.getLineNumber();
+        }
+        h ^= (h >>> 33); // final mix so that nearby fingerprints spread across the table
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return h;
+    }
+    
+    @Override
+    public void accept(Throwable t) {
+        long fp = fingerprint(t);
+        long now = System.nanoTime();
+        int base = (int) fp & (TABLE_SIZE - 1);
+        
+        int oldest = base;
+        for (int probe = 0; probe < MAX_PROBES; ++probe) {
+            int slot = (base + probe) & (TABLE_SIZE - 1);
+            Entry e = _entries.get(slot);
+            if (e == null) {
+                Entry created = new Entry(fp, t, now);
+                if (_entries.compareAndSet(slot, null, created)) {
+                    _handler.accept(t);
+                    return;
+                }
+                e = _entries.get(slot); // someone else claimed the slot first
+            }
+            if (e.fingerprint == fp) {
+                seenAgain(t, e, now);
+                return;
+            }
+            Entry o = _entries.get(oldest);
+            if (o != null && e.windowStart.get() - o.windowStart.get() < 0) oldest = slot;
+        }
+        
+        // no room; forget the least recently forwarded fingerprint nearby
+        Entry forgotten = _entries.getAndSet(oldest, new Entry(fp, t, now));
+        if (forgotten != null) summarize(forgotten, forgotten.windowStart.get(), now);
+        _handler.accept(t);
+    }
+    
+    private void seenAgain(Throwable t, Entry e, long now) {
+        long start = e.windowStart.get();
+        if (now - start < _windowNanos || !e.windowStart.compareAndSet(start, now)) {
+            e.suppressed.incrementAndGet();
+            return;
+        }
+        
+        // this thread rolled the window over
+        summarize(e, start, now);
+        _handler.accept(t);
+    }
+    
+    // logs a summary of the duplicates suppressed since the last one, if any.
+    // getAndSet() ensures each duplicate is summarized only once.
+    private void summarize(Entry e, long windowStart, long now) {
+        long suppressed = e.suppressed.getAndSet(0);
+        if (suppressed > 0) {
+            _summaries.format("%s (seen %d more times in the last %d ms)",
+                                e.description,
+                                suppressed,
+                                (now - windowStart) / 1000000);
+        }
+    }
+    
+    // summarizes the windows that have ended without their exception recurring
+    private void sweep(long now) {
+        for (int slot = 0; slot < TABLE_SIZE; ++slot) {
+            Entry e = _entries.get(slot);
+            if (e == null) continue;
+            long start = e.windowStart.get();
+            if (now - start >= _windowNanos) summarize(e, start, now);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return FastFormatter.printf("DeduplicatingThrowableHandler[%s]", _handler);
+    }
+}
@@ -0,0 +1,383 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
+import java.util.Formattable;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Message formatting for both slf4j-style ("{}") and String.format()-style
+ * messages that writes into a reusable per-thread StringBuilder instead of
+ * going through MessageFormatter's FormattingTuple or a new java.util.Formatter
+ * for every message.
+ * 
+ * Output is identical to MessageFormatter.arrayFormat(...).getMessage() and
+ * String.format() respectively.  For String.format()-style messages, only
+ * bare %s, %d, %x, %f, %% and %n are handled here; anything else (flags,
+ * widths, precisions, argument indices, other conversions or argument types)
+ * falls back to String.format().
+ * 
+ * String.format()-style format strings are parsed into FormatTemplates and
+ * cached once they have been seen more than once; the cache size defaults to
+ * 512 and can be set via the com.martiansoftware.log.formatCacheSize system
+ * property or Log.setFormatCacheSize().
+ */
+final class FastFormatter {
+
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+    private static volatile LocaleInfo _localeInfo = new LocaleInfo(Locale.ROOT);
+    private static volatile ClockCache<String, FormatTemplate> _templates
+            = new ClockCache<>(Integer.getInteger("com.martiansoftware.log.formatCacheSize", 512));
+    
+    private FastFormatter() {}
+    
+// -----------------------------------------------------------------------------
+// per-thread buffer management.  a message argument's toString() might itself
+// log something, so a nested call on the same thread gets its own builder.
+    
+    private static class Buffer {
+        StringBuilder sb = new StringBuilder(256);
+        boolean inUse = false;
+    }
+    
+    static StringBuilder acquire() {
+        Buffer b = BUFFER.get();
+        if (b.inUse) return new StringBuilder(256);
+        b.inUse = true;
+        b.sb.setLength(0);
+        return b.sb;
+    }
+    
+    static void release(StringBuilder sb) {
+        Buffer b = BUFFER.get();
+        if (b.sb == sb) {
+            if (sb.capacity() > MAX_RETAINED_CAPACITY) b.sb = new StringBuilder(256);
+            b.inUse = false;
+        }
+    }
+
+// -----------------------------------------------------------------------------
+// slf4j-style formatting
+    
+    static String slf4j(String prefix, String pattern, Object arg) {
+        return slf4j(prefix, pattern, arg, 0);
+    }
+    
+    static String slf4j(String prefix, String pattern, Object arg1, Object arg2) {
+        return slf4j(prefix, pattern, arg1, 0, arg2, 0);
+    }
+    
+    static String slf4j(String prefix, String pattern, Object[] args) {
+        if (args == null) return withPrefix(prefix, pattern);
+        int argc = args.length;
+        if (argc > 0 && args[argc - 1] instanceof Throwable) --argc;
+        return slf4j(prefix, pattern, argc, null, 0, null, 0, args);
+    }
+    
+    // the same, with arguments that may be Primitives
+    static String slf4j(String prefix, String pattern, Object arg, long bits) {
+        if (arg instanceof Throwable) return withPrefix(prefix, pattern); // see MessageFormatter.getThrowableCandidate()
+        return slf4j(prefix, pattern, 1, arg, bits, null, 0, null);
+    }
+    
+    static String slf4j(String prefix, String pattern, Object arg1, long bits1, Object arg2, long bits2) {
+        return arg2 instanceof Throwable
+                ? slf4j(prefix, pattern, 1, arg1, bits1, null, 0, null)
+                : slf4j(prefix, pattern, 2, arg1, bits1, arg2, bits2, null);
+    }
+    
+    private static String withPrefix(String prefix, String s) {
+        return prefix.isEmpty() ? s : prefix + s;
+    }
+    
+    // args are taken from the array if non-null, otherwise from arg1 and arg2
+    private static String slf4j(String prefix, String pattern, int argc, Object arg1, long bits1, Object arg2, long bits2, Object[] args) {
+        if (pattern == null) return withPrefix(prefix, pattern);
+        if (argc == 0 || pattern.indexOf("{}") == -1) return withPrefix(prefix, pattern);
+        
+        StringBuilder sb = acquire();
+        try {
+            sb.append(prefix);
+            int i = 0;
+            for (int L = 0; L < argc; ++L) {
+                int j = pattern.indexOf("{}", i);
+                if (j == -1) break;
+                if (j > 0 && pattern.charAt(j - 1) == '\\') {
+                    if (j >= 2 && pattern.charAt(j - 2) == '\\') { // escaped escape: "\\{}"
+                        sb.append(pattern, i, j - 1);
+                        appendArgument(sb, L, arg1, bits1, arg2, bits2, args);
+                        i = j + 2;
+                    } else { // escaped delimiter: "\{}"
+                        --L;
+                        sb.append(pattern, i, j - 1).append('{');
+                        i = j + 1;
+                    }
+                } else {
+                    sb.append(pattern, i, j);
+                    appendArgument(sb, L, arg1, bits1, arg2, bits2, args);
+                    i = j + 2;
+                }
+            }
+            sb.append(pattern, i, pattern.length());
+            return sb.toString();
+        } finally {
+            release(sb);
+        }
+    }
+
+    private static void appendArgument(StringBuilder sb, int i, Object arg1, long bits1, Object arg2, long bits2, Object[] args) {
+        Object arg = args != null ? args[i] : i == 0 ? arg1 : arg2;
+        if (arg instanceof Primitive) ((Primitive) arg).append(sb, i == 0 ? bits1 : bits2);
+        else appendParameter(sb, arg, null);
+    }
+    
+    // same rendering as MessageFormatter.deeplyAppendParameter()
+    private static void appendParameter(StringBuilder sb, Object o, Map<Object[], Object> seen) {
+        if (o == null) {
+            sb.append("null");
+        } else if (!o.getClass().isArray()) {
+            try {
+                sb.append(o.toString());
+            } catch (Throwable t) {
+                System.err.println("SLF4J: Failed toString() invocation on an object of type [" + o.getClass().getName() + "]");
+                System.err.println("Reported exception:");
+                t.printStackTrace();
+                sb.append("[FAILED toString()]");
+            }
+        } else if (o instanceof Object[]) {
+            Object[] a = (Object[]) o;
+            if (seen == null) seen = new IdentityHashMap<>();
+            sb.append('[');
+            if (!seen.containsKey(a)) {
+                seen.put(a, null);
+                for (int i = 0; i < a.length; ++i) {
+                    if (i > 0) sb.append(", ");
+                    appendParameter(sb, a[i], seen);
+                }
+                seen.remove(a);
+            } else {
+                sb.append("...");
+            }
+            sb.append(']');
+        } else if (o instanceof int[]) {
+            sb.append(Arrays.toString((int[]) o));
+        } else if (o instanceof long[]) {
+            sb.append(Arrays.toString((long[]) o));
+        } else if (o instanceof byte[]) {
+            sb.append(Arrays.toString((byte[]) o));
+        } else if (o instanceof short[]) {
+            sb.append(Arrays.toString((short[]) o));
+        } else if (o instanceof char[]) {
+            sb.append(Arrays.toString((char[]) o));
+        } else if (o instanceof boolean[]) {
+            sb.append(Arrays.toString((boolean[]) o));
+        } else if (o instanceof float[]) {
+            sb.append(Arrays.toString((float[]) o));
+        } else {
+            sb.append(Arrays.toString((double[]) o));
+        }
+    }
+    
+// -----------------------------------------------------------------------------
+// String.format()-style formatting
+    
+    static String printf(String format, Object... args) {
+        return printf(format, args == null ? 0 : args.length, null, 0, null, 0, args);
+    }
+    
+    // the same, with one or two arguments that may be Primitives
+    static String printf(String format, int argc, Object arg1, long bits1, Object arg2, long bits2) {
+        return printf(format, argc, arg1, bits1, arg2, bits2, null);
+    }
+    
+    // args are taken from the array if non-null, otherwise the first argc of arg1 and arg2
+    private static String printf(String format, int argc, Object arg1, long bits1, Object arg2, long bits2, Object[] args) {
+        FormatTemplate template = format == null ? null : _templates.get(format, FormatTemplate::parse);
+        if (template == null || template.isSupported()) {
+            StringBuilder sb = acquire();
+            try {
+                if (template == null
+                        ? appendPrintf(sb, format, argc, arg1, bits1, arg2, bits2, args)
+                        : template.appendTo(sb, argc, arg1, bits1, arg2, bits2, args)) return sb.toString();
+            } finally {
+                release(sb);
+            }
+        }
+        if (args != null) return String.format(format, args);
+        return argc == 2
+                ? String.format(format, Primitive.boxed(arg1, bits1), Primitive.boxed(arg2, bits2))
+                : String.format(format, Primitive.boxed(arg1, bits1));
+    }
+    
+    static void setTemplateCacheSize(int size) {
+        _templates = new ClockCache<>(size);
+    }
+    
+    static CacheStats templateCacheStats() {
+        return _templates.stats();
+    }
+    
+    // returns false if the format could not be handled here, in which case
+    // the contents of sb are undefined
+    private static boolean appendPrintf(StringBuilder sb, String format, int argc, Object arg1, long bits1, Object arg2, long bits2, Object[] args) {
+        if (format == null) return false;
+        int nextArg = 0;
+        int len = format.length();
+        int i = 0;
+        while (i < len) {
+            int pct = format.indexOf('%', i);
+            if (pct == -1) {
+                sb.append(format, i, len);
+                break;
+            }
+            sb.append(format, i, pct);
+            if (pct + 1 == len) return false;
+            char c = format.charAt(pct + 1);
+            switch (c) {
+                case '%': sb.append('%'); break;
+                case 'n': sb.append(LINE_SEPARATOR); break;
+                case 's':
+                case 'd':
+                case 'x':
+                case 'f':
+                    if (nextArg >= argc) return false;
+                    if (!appendConversion(sb, c, nextArg++, arg1, bits1, arg2, bits2, args)) return false;
+                    break;
+                default: return false;
+            }
+            i = pct + 2;
+        }
+        return true;
+    }
+    
+    // appends argument i, taken as for printf(), via the specified conversion
+    static boolean appendConversion(StringBuilder sb, char conversion, int i, Object arg1, long bits1, Object arg2, long bits2, Object[] args) {
+        if (args != null) return appendConversion(sb, conversion, args[i]);
+        Object arg = i == 0 ? arg1 : arg2;
+        long bits = i == 0 ? bits1 : bits2;
+        return arg instanceof Primitive ? appendConversion(sb, conversion, (Primitive) arg, bits) : appendConversion(sb, conversion, arg);
+    }
+    
+    private static boolean appendConversion(StringBuilder sb, char conversion, Object arg) {
+        switch (conversion) {
+            case 's':
+                if (arg instanceof Formattable) return false;
+                sb.append(String.valueOf(arg));
+                return true;
+            case 'd':
+                if (arg == null) {
+                    sb.append("null");
+                    return true;
+                }
+                if (!(arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte)) return false;
+                if (!localeInfo().plainDigits) return false;
+                sb.append(((Number) arg).longValue());
+                return true;
+            case 'x':
+                if (arg == null) sb.append("null");
+                else if (arg instanceof Integer) sb.append(Integer.toHexString((Integer) arg));
+                else if (arg instanceof Long) sb.append(Long.toHexString((Long) arg));
+                else if (arg instanceof Short) sb.append(Integer.toHexString(((Short) arg) & 0xffff));
+                else if (arg instanceof Byte) sb.append(Integer.toHexString(((Byte) arg) & 0xff));
+                else return false;
+                return true;
+            case 'f':
+                if (arg == null) {
+                    sb.append("null");
+                    return true;
+                }
+                if (!(arg instanceof Double || arg instanceof Float)) return false;
+                return appendFixed(sb, ((Number) arg).doubleValue());
+            default:
+                return false;
+        }
+    }
+    
+    // the same rendering as above, for unboxed arguments
+    private static boolean appendConversion(StringBuilder sb, char conversion, Primitive p, long bits) {
+        switch (conversion) {
+            case 's':
+                p.append(sb, bits);
+                return true;
+            case 'd':
+                if (!(p == Primitive.INT || p == Primitive.LONG || p == Primitive.SHORT || p == Primitive.BYTE)) return false;
+                if (!localeInfo().plainDigits) return false;
+                sb.append(bits);
+                return true;
+            case 'x':
+                if (p == Primitive.INT) sb.append(Integer.toHexString((int) bits));
+                else if (p == Primitive.LONG) sb.append(Long.toHexString(bits));
+                else if (p == Primitive.SHORT) sb.append(Integer.toHexString((int) bits & 0xffff));
+                else if (p == Primitive.BYTE) sb.append(Integer.toHexString((int) bits & 0xff));
+                else return false;
+                return true;
+            case 'f':
+                if (p == Primitive.DOUBLE) return appendFixed(sb, Double.longBitsToDouble(bits));
+                if (p == Primitive.FLOAT) return appendFixed(sb, Float.intBitsToFloat((int) bits));
+                return false;
+            default:
+                return false;
+        }
+    }
+    
+    // %f
+    private static boolean appendFixed(StringBuilder sb, double d) {
+        if (Double.isNaN(d)) {
+            sb.append("NaN");
+        } else if (Double.isInfinite(d)) {
+            sb.append(d > 0 ? "Infinity" : "-Infinity");
+        } else {
+            LocaleInfo li = localeInfo();
+            if (!(li.plainDigits && li.plainDecimal)) return false;
+            // java.util.Formatter rounds the shortest decimal representation half-up
+            if (Double.compare(d, 0.0) < 0) sb.append('-');
+            sb.append(new BigDecimal(Double.toString(Math.abs(d))).setScale(6, RoundingMode.HALF_UP).toPlainString());
+        }
+        return true;
+    }
+    
+    // we only format numbers ourselves if the default locale would render
+    // them with ascii digits and a '.' decimal separator
+    private static LocaleInfo localeInfo() {
+        Locale l = Locale.getDefault(Locale.Category.FORMAT);
+        LocaleInfo li = _localeInfo;
+        if (li.locale != l) {
+            li = new LocaleInfo(l);
+            _localeInfo = li;
+        }
+        return li;
+    }
+    
+    private static class LocaleInfo {
+        final Locale locale;
+        final boolean plainDigits, plainDecimal;
+        
+        LocaleInfo(Locale l) {
+            locale = l;
+            DecimalFormatSymbols dfs = DecimalFormatSymbols.getInstance(l);
+            plainDigits = dfs.getZeroDigit() == '0';
+            plainDecimal = dfs.getDecimalSeparator() == '.';
+        }
+    }
+}
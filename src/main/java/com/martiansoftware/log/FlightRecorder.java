@@ -0,0 +1,321 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+/**
+ * When enabled, captures trace and debug log calls that are disabled in the
+ * backend, so that the context leading up to a failure is available even
+ * though it was not logged.  See Log.enableFlightRecorder().
+ * 
+ * Each thread records into its own ring of fixed-size slots in an off-heap
+ * (direct) ByteBuffer.  A record holds a timestamp, the interned ids of the
+ * logger name and message template, and the arguments in a compact binary
+ * form; no message is formatted while recording.  Numbers, booleans,
+ * characters, Strings, enums, and Throwables (via toString()) are recorded
+ * by value, with Strings truncated to fit the slot.  Other objects are
+ * recorded as their class name and identity hash code, so their toString()
+ * methods are never called.  Messages without arguments are stored in the
+ * record rather than interned.
+ * 
+ * When an error is logged or a Throwable is handled, the current thread's
+ * records from the last window are decoded, logged at WARN to their original
+ * loggers, and discarded.
+ */
+final class FlightRecorder {
+
+    private static final int SLOT_SIZE = 256;
+    private static final int MAX_IDS = 1 << 16; // interned names and templates
+    private static final int NOT_INTERNED = -1;
+    
+    // record layout within a slot
+    private static final int TIMESTAMP = 0, LOGGER = 8, TEMPLATE = 12, LEVEL = 16, STYLE = 17, ARG_COUNT = 18, ARGS = 19;
+    
+    // message styles
+    private static final byte RAW = 0, SLF4J = 1, PRINTF = 2, WITH_THROWABLE = 3;
+    
+    // argument tags
+    private static final byte NULL = 0, LONG = 1, DOUBLE = 2, BOOLEAN = 3, CHAR = 4, STRING = 5, OBJECT = 6, FLOAT = 7, INT = 8;
+    
+    private static final Level[] LEVELS = Level.values();
+    
+    private static final Map<String, Integer> _ids = new ConcurrentHashMap<>();
+    private static final AtomicReferenceArray<String> _strings = new AtomicReferenceArray<>(MAX_IDS);
+    private static final AtomicInteger _nextId = new AtomicInteger();
+    
+    private static final ThreadLocal<Ring> RING = new ThreadLocal<>();
+    
+    private static volatile boolean _enabled = false;
+    private static volatile int _slots;
+    private static volatile long _windowMillis;
+    
+    private FlightRecorder() {}
+    
+    // one thread's records
+    private static class Ring {
+        final ByteBuffer buf;
+        final int slots;
+        long next = 0; // sequence number of the next record
+        
+        Ring(int slots) {
+            this.slots = slots;
+            buf = ByteBuffer.allocateDirect(slots * SLOT_SIZE);
+        }
+    }
+    
+    static boolean isEnabled() {
+        return _enabled;
+    }
+    
+    static void enable(int bytesPerThread, Duration window) {
+        // a power of two so claiming a slot is a mask rather than a division
+        _slots = Integer.highestOneBit(Math.max(1, bytesPerThread / SLOT_SIZE));
+        _windowMillis = window.toMillis();
+        _enabled = true;
+    }
+    
+    static void disable() {
+        _enabled = false;
+    }
+    
+    private static int intern(String s) {
+        if (s == null) return NOT_INTERNED;
+        Integer id = _ids.get(s);
+        if (id != null) return id;
+        if (_nextId.get() >= MAX_IDS) return NOT_INTERNED;
+        return _ids.computeIfAbsent(s, k -> {
+            int i = _nextId.getAndIncrement();
+            if (i >= MAX_IDS) return NOT_INTERNED;
+            _strings.set(i, k);
+            return i;
+        });
+    }
+    
+    private static String lookup(int id) {
+        return id == NOT_INTERNED ? null : _strings.get(id);
+    }
+    
+    // claims the next slot in this thread's ring and writes the record header; returns the slot offset
+    private static int begin(Ring ring, String logger, Level level, String template, byte style) {
+        int offset = (int) (ring.next++ & (ring.slots - 1)) * SLOT_SIZE;
+        ByteBuffer b = ring.buf;
+        b.putLong(offset + TIMESTAMP, System.currentTimeMillis());
+        b.putInt(offset + LOGGER, intern(logger));
+        b.putInt(offset + TEMPLATE, intern(template));
+        b.put(offset + LEVEL, (byte) level.ordinal());
+        b.put(offset + STYLE, style);
+        b.put(offset + ARG_COUNT, (byte) 0);
+        return offset;
+    }
+    
+    private static Ring ring() {
+        Ring ring = RING.get();
+        if (ring == null || ring.slots != _slots) {
+            ring = new Ring(_slots);
+            RING.set(ring);
+        }
+        return ring;
+    }
+    
+    static void record(String logger, Level level, String message) {
+        // messages without arguments are often built dynamically, so they're stored rather than interned
+        Ring ring = ring();
+        int offset = begin(ring, logger, level, null, RAW);
+        addArg(ring.buf, offset, offset + ARGS, message);
+    }
+    
+    static void record(String logger, Level level, String format, Object arg) {
+        Ring ring = ring();
+        int offset = begin(ring, logger, level, format, SLF4J);
+        addArg(ring.buf, offset, offset + ARGS, arg);
+    }
+    
+    static void record(String logger, Level level, String format, Object arg1, Object arg2) {
+        Ring ring = ring();
+        int offset = begin(ring, logger, level, format, SLF4J);
+        int pos = addArg(ring.buf, offset, offset + ARGS, arg1);
+        if (pos > 0) addArg(ring.buf, offset, pos, arg2);
+    }
+    
+    // the same, with arguments that may be Primitives
+    static void record(String logger, Level level, String format, Object arg, long bits) {
+        Ring ring = ring();
+        int offset = begin(ring, logger, level, format, SLF4J);
+        addArg(ring.buf, offset, offset + ARGS, arg, bits);
+    }
+    
+    static void record(String logger, Level level, String format, Object arg1, long bits1, Object arg2, long bits2) {
+        record(logger, level, format, 2, arg1, bits1, arg2, bits2, SLF4J);
+    }
+    
+    static void recordPrintf(String logger, Level level, String format, int argc, Object arg1, long bits1, Object arg2, long bits2) {
+        record(logger, level, format, argc, arg1, bits1, arg2, bits2, PRINTF);
+    }
+    
+    private static void record(String logger, Level level, String format, int argc, Object arg1, long bits1, Object arg2, long bits2, byte style) {
+        Ring ring = ring();
+        int offset = begin(ring, logger, level, format, style);
+        int pos = addArg(ring.buf, offset, offset + ARGS, arg1, bits1);
+        if (argc > 1 && pos > 0) addArg(ring.buf, offset, pos, arg2, bits2);
+    }
+    
+    static void record(String logger, Level level, String format, Object[] args) {
+        record(logger, level, format, args, SLF4J);
+    }
+    
+    static void recordPrintf(String logger, Level level, String format, Object[] args) {
+        record(logger, level, format, args, PRINTF);
+    }
+    
+    static void record(String logger, Level level, String message, Throwable t) {
+        Ring ring = ring();
+        int offset = begin(ring, logger, level, null, WITH_THROWABLE);
+        int pos = addArg(ring.buf, offset, offset + ARGS, message);
+        if (pos > 0) addArg(ring.buf, offset, pos, t);
+    }
+    
+    private static void record(String logger, Level level, String format, Object[] args, byte style) {
+        Ring ring = ring();
+        int offset = begin(ring, logger, level, format, style);
+        if (args != null) {
+            int pos = offset + ARGS;
+            for (int i = 0; i < args.length && pos > 0; ++i) pos = addArg(ring.buf, offset, pos, args[i]);
+        }
+    }
+    
+    // appends an argument at pos to the record at offset; returns the position
+    // for the next argument, or -1 if there was no room for this one
+    private static int addArg(ByteBuffer b, int offset, int pos, Object arg) {
+        return addArg(b, offset, pos, arg, 0);
+    }
+    
+    private static int addArg(ByteBuffer b, int offset, int pos, Object arg, long bits) {
+        int end = offset + SLOT_SIZE;
+        if (pos + 9 > end) return -1; // largest fixed-size argument
+        
+        if (arg instanceof Primitive) {
+            switch ((Primitive) arg) {
+                case BOOLEAN: b.put(pos, BOOLEAN).put(pos + 1, (byte) bits); break;
+                case CHAR: b.put(pos, CHAR).putChar(pos + 1, (char) bits); break;
+                case INT: b.put(pos, INT).putInt(pos + 1, (int) bits); break;
+                case FLOAT: b.put(pos, FLOAT).putInt(pos + 1, (int) bits); break;
+                case DOUBLE: b.put(pos, DOUBLE).putLong(pos + 1, bits); break;
+                default: b.put(pos, LONG).putLong(pos + 1, bits); break; // as boxed Longs, Shorts and Bytes are
+            }
+        } else if (arg == null) {
+            b.put(pos, NULL);
+        } else if (arg instanceof Integer) {
+            b.put(pos, INT).putInt(pos + 1, (Integer) arg);
+        } else if (arg instanceof Long || arg instanceof Short || arg instanceof Byte) {
+            b.put(pos, LONG).putLong(pos + 1, ((Number) arg).longValue());
+        } else if (arg instanceof Double) {
+            b.put(pos, DOUBLE).putDouble(pos + 1, (Double) arg);
+        } else if (arg instanceof Float) {
+            b.put(pos, FLOAT).putFloat(pos + 1, (Float) arg);
+        } else if (arg instanceof Boolean) {
+            b.put(pos, BOOLEAN).put(pos + 1, (byte) (((Boolean) arg) ? 1 : 0));
+        } else if (arg instanceof Character) {
+            b.put(pos, CHAR).putChar(pos + 1, (Character) arg);
+        } else if (arg instanceof String || arg instanceof Enum || arg instanceof Throwable) {
+            String s = arg instanceof Enum ? ((Enum<?>) arg).name() : arg.toString();
+            int len = Math.min(s.length(), (end - pos - 3) / 2);
+            b.put(pos, STRING).putShort(pos + 1, (short) len);
+            for (int i = 0; i < len; ++i) b.putChar(pos + 3 + i * 2, s.charAt(i));
+        } else {
+            b.put(pos, OBJECT).putInt(pos + 1, intern(arg.getClass().getName())).putInt(pos + 5, System.identityHashCode(arg));
+        }
+        b.put(offset + ARG_COUNT, (byte) (b.get(offset + ARG_COUNT) + 1));
+        return skip(b, pos);
+    }
+    
+    // returns the position just after the argument at pos
+    private static int skip(ByteBuffer b, int pos) {
+        switch (b.get(pos)) {
+            case NULL: return pos + 1;
+            case LONG: case DOUBLE: case OBJECT: return pos + 9;
+            case BOOLEAN: return pos + 2;
+            case CHAR: return pos + 3;
+            case FLOAT: case INT: return pos + 5;
+            default: return pos + 3 + b.getShort(pos + 1) * 2; // STRING
+        }
+    }
+    
+    private static Object decodeArg(ByteBuffer b, int pos) {
+        switch (b.get(pos)) {
+            case NULL: return null;
+            case LONG: return b.getLong(pos + 1);
+            case DOUBLE: return b.getDouble(pos + 1);
+            case BOOLEAN: return b.get(pos + 1) != 0;
+            case CHAR: return b.getChar(pos + 1);
+            case FLOAT: return b.getFloat(pos + 1);
+            case INT: return b.getInt(pos + 1);
+            case OBJECT: return lookup(b.getInt(pos + 1)) + "@" + Integer.toHexString(b.getInt(pos + 5));
+            default:
+                int len = b.getShort(pos + 1);
+                char[] chars = new char[len];
+                for (int i = 0; i < len; ++i) chars[i] = b.getChar(pos + 3 + i * 2);
+                return new String(chars);
+        }
+    }
+    
+    private static String decodeMessage(ByteBuffer b, int offset) {
+        String template = lookup(b.getInt(offset + TEMPLATE));
+        int count = b.get(offset + ARG_COUNT);
+        Object[] args = new Object[count];
+        int pos = offset + ARGS;
+        for (int i = 0; i < count; ++i) {
+            args[i] = decodeArg(b, pos);
+            pos = skip(b, pos);
+        }
+        switch (b.get(offset + STYLE)) {
+            case RAW: return String.valueOf(args[0]);
+            case WITH_THROWABLE: return args[0] + (count > 1 ? " [" + args[1] + "]" : "");
+            default:
+                if (template == null) return "(template not recorded) " + Arrays.toString(args);
+                return b.get(offset + STYLE) == PRINTF ? FastFormatter.printf(template, args) : FastFormatter.slf4j("", template, args);
+        }
+    }
+    
+    /**
+     * Logs and discards the current thread's records from the last window
+     */
+    static void dump() {
+        Ring ring = RING.get();
+        if (ring == null || ring.next == 0) return;
+        long cutoff = System.currentTimeMillis() - _windowMillis;
+        long first = Math.max(0, ring.next - ring.slots);
+        ByteBuffer b = ring.buf;
+        for (long seq = first; seq < ring.next; ++seq) {
+            int offset = (int) (seq & (ring.slots - 1)) * SLOT_SIZE;
+            long timestamp = b.getLong(offset + TIMESTAMP);
+            if (timestamp < cutoff) continue;
+            String name = lookup(b.getInt(offset + LOGGER));
+            Logger logger = LoggerFactory.getLogger(name == null ? FlightRecorder.class.getName() : name);
+            logger.warn("[recorded " + LEVELS[b.get(offset + LEVEL)] + " " + Instant.ofEpochMilli(timestamp) + "] " + decodeMessage(b, offset));
+        }
+        ring.next = 0;
+    }
+}
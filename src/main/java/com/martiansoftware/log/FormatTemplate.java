@@ -0,0 +1,94 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A String.format()-style format string pre-parsed into literal segments and
+ * argument slots, so that constant formats do not need to be re-scanned on
+ * every call.  Only the conversions FastFormatter handles itself are
+ * supported; a template for any other format is marked as such so callers
+ * can go straight to String.format().
+ */
+final class FormatTemplate {
+
+    private static final FormatTemplate UNSUPPORTED = new FormatTemplate(null, null);
+    
+    private final String[] _literals; // one more than _conversions
+    private final char[] _conversions;
+    
+    private FormatTemplate(String[] literals, char[] conversions) {
+        _literals = literals;
+        _conversions = conversions;
+    }
+    
+    static FormatTemplate parse(String format) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder conversions = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        int len = format.length();
+        int i = 0;
+        while (i < len) {
+            int pct = format.indexOf('%', i);
+            if (pct == -1) {
+                literal.append(format, i, len);
+                break;
+            }
+            literal.append(format, i, pct);
+            if (pct + 1 == len) return UNSUPPORTED;
+            char c = format.charAt(pct + 1);
+            switch (c) {
+                case '%': literal.append('%'); break;
+                case 'n': literal.append(System.lineSeparator()); break;
+                case 's':
+                case 'd':
+                case 'x':
+                case 'f':
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    conversions.append(c);
+                    break;
+                default: return UNSUPPORTED;
+            }
+            i = pct + 2;
+        }
+        literals.add(literal.toString());
+        return new FormatTemplate(literals.toArray(new String[literals.size()]), conversions.toString().toCharArray());
+    }
+    
+    boolean isSupported() {
+        return _literals != null;
+    }
+    
+    /**
+     * Renders this template with the specified arguments, taken from args if
+     * it is non-null and otherwise from the first argc of arg1 and arg2 (see
+     * Primitive).  Returns false if the arguments can't be handled here (too
+     * few, or of a type that FastFormatter doesn't handle), in which case the
+     * contents of sb are undefined.
+     */
+    boolean appendTo(StringBuilder sb, int argc, Object arg1, long bits1, Object arg2, long bits2, Object[] args) {
+        if (_literals == null) return false;
+        if (argc < _conversions.length) return false;
+        for (int i = 0; i < _conversions.length; ++i) {
+            sb.append(_literals[i]);
+            if (!FastFormatter.appendConversion(sb, _conversions[i], i, arg1, bits1, arg2, bits2, args)) return false;
+        }
+        sb.append(_literals[_conversions.length]);
+        return true;
+    }
+}
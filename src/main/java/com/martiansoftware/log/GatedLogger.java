@@ -0,0 +1,170 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A SingleLevelLogger that only passes some messages through to another,
+ * as decided by a Gate.  Created via SingleLevelLogger.rateLimited(),
+ * sampled() and everyNth().
+ * 
+ * Gates are lock-free, and a rejected message costs a gate check and no
+ * allocation.  Messages are only offered to the gate if the underlying
+ * logger is enabled, so disabled messages do not use up a rate limit.
+ */
+class GatedLogger implements SingleLevelLogger, StopwatchSource, PrimitiveFormatter {
+
+    private final SingleLevelLogger _delegate;
+    private final Gate _gate;
+    
+    GatedLogger(SingleLevelLogger delegate, Gate gate) {
+        _delegate = delegate;
+        _gate = gate;
+    }
+    
+    private boolean pass() {
+        if (!_delegate.isEnabled()) return false;
+        long suppressed = _gate.admit();
+        if (suppressed > 0) _delegate.format("(suppressed %d messages)", suppressed);
+        return suppressed >= 0;
+    }
+    
+    @Override public boolean isEnabled() {
+        return _delegate.isEnabled();
+    }
+
+    @Override public SingleLevelLogger print(String message) {
+        if (pass()) _delegate.print(message);
+        return this;
+    }
+
+    @Override public SingleLevelLogger print(Supplier<String> messageSupplier) {
+        if (pass()) _delegate.print(messageSupplier);
+        return this;
+    }
+
+    @Override public SingleLevelLogger format(String format, Object... args) {
+        if (pass()) _delegate.format(format, args);
+        return this;
+    }
+
+    @Override public SingleLevelLogger formatPrimitives(String format, int argc, Object arg1, long bits1, Object arg2, long bits2) {
+        if (pass()) PrimitiveFormatter.format(_delegate, format, argc, arg1, bits1, arg2, bits2);
+        return this;
+    }
+
+    @Override public SingleLevelLogger throwable(Throwable t, String msg, Object... args) {
+        if (pass()) _delegate.throwable(t, msg, args);
+        return this;
+    }
+
+    @Override public SingleLevelLogger throwable(Throwable t) {
+        if (pass()) _delegate.throwable(t);
+        return this;
+    }
+
+    @Override public StopwatchLog stopwatch(String name) {
+        return stopwatch(name, this);
+    }
+    
+    @Override public StopwatchLog stopwatch(String name, SingleLevelLogger logStopwatchTo) {
+        return _delegate instanceof StopwatchSource
+                ? ((StopwatchSource) _delegate).stopwatch(name, logStopwatchTo)
+                : _delegate.stopwatch(name);
+    }
+    
+// -----------------------------------------------------------------------------
+
+    /**
+     * Decides which messages get through.  admit() returns a negative number
+     * if the message should be dropped, otherwise the number of messages
+     * dropped since the last time a positive number was returned (if the gate
+     * reports such things, else 0).
+     */
+    interface Gate {
+        long admit();
+    }
+    
+    // at most _permits messages per fixed window of _windowNanos
+    static class RateLimit implements Gate {
+        private final int _permits;
+        private final long _windowNanos;
+        private final AtomicLong _windowStart = new AtomicLong(System.nanoTime());
+        private final AtomicLong _used = new AtomicLong();
+        private final LongAdder _suppressed = new LongAdder(); // striped so rejections don't contend
+        
+        RateLimit(int permits, Duration per) {
+            if (permits < 1) throw new IllegalArgumentException("permits must be >= 1");
+            _permits = permits;
+            _windowNanos = per.toNanos();
+        }
+        
+        @Override public long admit() {
+            long now = System.nanoTime();
+            long start = _windowStart.get();
+            if (now - start >= _windowNanos && _windowStart.compareAndSet(start, now)) {
+                _used.set(1);
+                return _suppressed.sumThenReset();
+            }
+            // read before incrementing so that once the window is used up,
+            // rejections don't write to the shared counter
+            if (_used.get() >= _permits || _used.incrementAndGet() > _permits) {
+                _suppressed.increment();
+                return -1;
+            }
+            return 0;
+        }
+    }
+    
+    // each message passes with a fixed probability
+    static class Sample implements Gate {
+        private final double _probability;
+        
+        Sample(double probability) {
+            if (probability < 0.0 || probability > 1.0) throw new IllegalArgumentException("probability must be between 0 and 1");
+            _probability = probability;
+        }
+        
+        @Override public long admit() {
+            return ThreadLocalRandom.current().nextDouble() < _probability ? 0 : -1;
+        }
+    }
+    
+    // every nth message passes.  counts are striped by thread to avoid
+    // contention, so this is exact per stripe and approximate overall.
+    static class EveryNth implements Gate {
+        private static final int PADDING = 8; // longs per stripe, to keep stripes on separate cache lines
+        private static final int STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+        
+        private final int _n;
+        private final AtomicLongArray _counts = new AtomicLongArray(STRIPES * PADDING);
+        
+        EveryNth(int n) {
+            if (n < 1) throw new IllegalArgumentException("n must be >= 1");
+            _n = n;
+        }
+        
+        @Override public long admit() {
+            int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+            return _counts.getAndIncrement(stripe * PADDING) % _n == 0 ? 0 : -1;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+/**
+ * Emits JDK Flight Recorder events for log calls, stopwatches, and throwable
+ * handlers.  This version is used on Java 8, which has no JFR API, and does
+ * nothing; the multi-release jar contains a Java 11+ version that emits the
+ * events when a recording has enabled them.
+ * 
+ * Callers check the isXEnabled() methods before doing any measuring, so
+ * nothing is measured unless the corresponding event is being recorded.
+ */
+final class Jfr {
+
+    private Jfr() {}
+    
+    static boolean isLogEnabled() {
+        return false;
+    }
+    
+    static void log(String logger, String level, String template, long formatNanos) {
+    }
+    
+    static boolean isStopwatchEnabled() {
+        return false;
+    }
+    
+    static void stopwatch(String name, long durationNanos, boolean warnExceeded, boolean errorExceeded) {
+    }
+    
+    static boolean isThrowableHandledEnabled() {
+        return false;
+    }
+    
+    static void throwableHandled(Throwable t, long handlerNanos) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+/**
+ * How structured (key-value) messages built via SingleLevelLogger.kv() are
+ * encoded.  See Log.setKeyValueFormat().
+ */
+public enum KeyValueFormat {
+    /**
+     * A compact JSON object, e.g. {"msg":"request done","user":"bob","latencyMs":12}
+     */
+    JSON,
+    
+    /**
+     * logfmt, e.g. msg="request done" user=bob latencyMs=12
+     */
+    LOGFMT
+}
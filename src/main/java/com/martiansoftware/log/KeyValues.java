@@ -0,0 +1,182 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+/**
+ * A structured log message under construction, obtained via
+ * SingleLevelLogger.kv().  Each with() appends a key and value, encoded
+ * directly into a reused per-thread buffer as JSON or logfmt (see
+ * Log.setKeyValueFormat()), and log() sends the result to the
+ * SingleLevelLogger as an ordinary message:
+ * 
+ * <pre>
+ * log.info.kv("request done").with("user", user).with("latencyMs", 12L).log();
+ * </pre>
+ * 
+ * Primitive values are appended without boxing.  If the SingleLevelLogger is
+ * disabled, kv() returns a shared instance that ignores everything, so no
+ * work is done at all.
+ * 
+ * A KeyValues must not be used after log() is called.  One that is never
+ * logged (e.g. because an exception was thrown while building it) is simply
+ * left for the garbage collector.
+ */
+public class KeyValues {
+
+    static final String MESSAGE_KEY = "msg";
+    static final KeyValues DISABLED = new Disabled();
+    
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+    private static final ThreadLocal<KeyValues> POOL = ThreadLocal.withInitial(KeyValues::new);
+    private static volatile KeyValueFormat _format = KeyValueFormat.JSON;
+    
+    private StringBuilder _sb = new StringBuilder(256);
+    private SingleLevelLogger _sll;
+    private boolean _json;
+    private boolean _inUse;
+    
+    KeyValues() {}
+    
+    static KeyValues start(SingleLevelLogger sll, String message) {
+        KeyValues kv = POOL.get();
+        if (kv._inUse) {
+            // either nested use on this thread, or an earlier KeyValues was
+            // never logged.  either way it is no longer pooled, so an
+            // abandoned one costs a single allocation rather than one per kv()
+            kv = new KeyValues();
+            POOL.set(kv);
+        }
+        kv._inUse = true;
+        kv._sll = sll;
+        kv._json = _format == KeyValueFormat.JSON;
+        if (kv._json) kv._sb.append('{');
+        return kv.with(MESSAGE_KEY, message);
+    }
+    
+    static void setFormat(KeyValueFormat format) {
+        _format = format == null ? KeyValueFormat.JSON : format;
+    }
+    
+    // appends the separator and key, leaving the buffer ready for a value
+    private StringBuilder key(String key) {
+        if (_json) {
+            if (_sb.length() > 1) _sb.append(',');
+            return Json.appendString(_sb, String.valueOf(key)).append(':');
+        }
+        if (_sb.length() > 0) _sb.append(' ');
+        return logfmt(String.valueOf(key)).append('=');
+    }
+    
+    private StringBuilder string(String value) {
+        if (value == null) return _json ? _sb.append("null") : _sb;
+        return _json ? Json.appendString(_sb, value) : logfmt(value);
+    }
+    
+    // appends a logfmt value, quoted and escaped if necessary
+    private StringBuilder logfmt(String s) {
+        boolean quote = s.isEmpty();
+        for (int i = 0; i < s.length() && !quote; ++i) {
+            char c = s.charAt(i);
+            quote = c <= ' ' || c == '=' || c == '"' || c == '\\';
+        }
+        if (!quote) return _sb.append(s);
+        _sb.append('"');
+        for (int i = 0; i < s.length(); ++i) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': _sb.append("\\\""); break;
+                case '\\': _sb.append("\\\\"); break;
+                case '\n': _sb.append("\\n"); break;
+                case '\r': _sb.append("\\r"); break;
+                case '\t': _sb.append("\\t"); break;
+                default: _sb.append(c);
+            }
+        }
+        return _sb.append('"');
+    }
+    
+    public KeyValues with(String key, String value) {
+        key(key);
+        string(value);
+        return this;
+    }
+    
+    public KeyValues with(String key, Object value) {
+        if (value instanceof Boolean) return with(key, ((Boolean) value).booleanValue());
+        if (value instanceof Double) return with(key, ((Double) value).doubleValue());
+        if (value instanceof Float) {
+            float f = (Float) value;
+            if (Float.isNaN(f) || Float.isInfinite(f)) return with(key, Float.toString(f)); // not valid JSON numbers
+            key(key).append(f); // as Float.toString(), so 0.1f is 0.1
+            return this;
+        }
+        if (value instanceof Number) {
+            key(key).append(value);
+            return this;
+        }
+        return with(key, value == null ? null : value.toString());
+    }
+    
+    public KeyValues with(String key, long value) {
+        key(key).append(value);
+        return this;
+    }
+    
+    public KeyValues with(String key, int value) {
+        key(key).append(value);
+        return this;
+    }
+    
+    public KeyValues with(String key, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) return with(key, Double.toString(value)); // not valid JSON numbers
+        key(key).append(value);
+        return this;
+    }
+    
+    public KeyValues with(String key, boolean value) {
+        key(key).append(value);
+        return this;
+    }
+    
+    /**
+     * Logs the message and releases this KeyValues for reuse
+     */
+    public void log() {
+        if (!_inUse) return;
+        if (_json) _sb.append('}');
+        SingleLevelLogger sll = _sll;
+        String message = _sb.toString();
+        if (_sb.capacity() > MAX_RETAINED_CAPACITY) _sb = new StringBuilder(256); else _sb.setLength(0);
+        _sll = null;
+        _inUse = false;
+        sll.print(message);
+    }
+    
+    @Override public String toString() {
+        return _sb.toString();
+    }
+    
+    // returned by kv() when the level is disabled
+    private static final class Disabled extends KeyValues {
+        @Override public KeyValues with(String key, String value) { return this; }
+        @Override public KeyValues with(String key, Object value) { return this; }
+        @Override public KeyValues with(String key, long value) { return this; }
+        @Override public KeyValues with(String key, int value) { return this; }
+        @Override public KeyValues with(String key, double value) { return this; }
+        @Override public KeyValues with(String key, boolean value) { return this; }
+        @Override public void log() {}
+        @Override public String toString() { return ""; }
+    }
+}
@@ -0,0 +1,101 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * A lock-free log-linear histogram of nanosecond durations, in the style of
+ * HdrHistogram: values below 2^SUB_BITS are counted exactly, and each
+ * power-of-two range above that is split into 2^SUB_BITS linear buckets, so
+ * every recorded value is accurate to within about 3%.
+ * 
+ * Recording is a single atomic increment plus min/max accumulation, so any
+ * number of threads can record concurrently.  snapshotAndReset() is not atomic
+ * with respect to concurrent recording: a value recorded during a snapshot
+ * may be counted in either the current or the next snapshot.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (63 - SUB_BITS + 1) * SUB_COUNT;
+    
+    private final AtomicLongArray _counts = new AtomicLongArray(BUCKETS);
+    private final LongAccumulator _min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator _max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    
+    void record(long nanos) {
+        long v = Math.max(0, nanos);
+        _counts.incrementAndGet(bucketOf(v));
+        _min.accumulate(v);
+        _max.accumulate(v);
+    }
+    
+    static int bucketOf(long v) {
+        if (v < SUB_COUNT) return (int) v;
+        int msb = 63 - Long.numberOfLeadingZeros(v);
+        int shift = msb - SUB_BITS;
+        return (shift + 1) * SUB_COUNT + (int) ((v >>> shift) - SUB_COUNT);
+    }
+    
+    // the midpoint of the values that fall into the specified bucket
+    static long valueOf(int bucket) {
+        if (bucket < SUB_COUNT) return bucket;
+        int shift = bucket / SUB_COUNT - 1;
+        long low = ((long) (bucket % SUB_COUNT + SUB_COUNT)) << shift;
+        return low + ((1L << shift) >>> 1);
+    }
+    
+    Snapshot snapshotAndReset() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            if (_counts.get(i) != 0) total += (counts[i] = _counts.getAndSet(i, 0));
+        }
+        return new Snapshot(counts, total, _min.getThenReset(), _max.getThenReset());
+    }
+    
+    /**
+     * The durations recorded between two calls to snapshotAndReset()
+     */
+    static final class Snapshot {
+        private final long[] _counts;
+        final long count, min, max;
+        
+        private Snapshot(long[] counts, long count, long min, long max) {
+            _counts = counts;
+            this.count = count;
+            this.min = count == 0 ? 0 : min;
+            this.max = count == 0 ? 0 : max;
+        }
+        
+        /**
+         * Returns the value at the specified percentile (0.0 - 100.0), clamped
+         * to the observed min and max
+         */
+        long percentile(double p) {
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(p / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < _counts.length; ++i) {
+                seen += _counts[i];
+                if (seen >= rank) return Math.max(min, Math.min(max, valueOf(i)));
+            }
+            return max;
+        }
+    }
+}
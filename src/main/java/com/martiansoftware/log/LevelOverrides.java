@@ -0,0 +1,198 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A table of level overrides that takes the place of the backend's level
+ * checks for matching Logs.  See Log.setLevelOverrides().
+ * 
+ * Each Log resolves its override once per change to the table: the table is
+ * replaced as a whole, and then a global epoch is advanced.  A Log caches its
+ * resolved level along with the epoch it was resolved in, so its level checks
+ * only need to compare the current epoch to its own.
+ */
+final class LevelOverrides {
+
+    // resolved levels, in increasing order of severity; NONE means use the backend
+    static final int NONE = 0, TRACE = 1, DEBUG = 2, INFO = 3, WARN = 4, ERROR = 5, OFF = 6;
+    
+    static final String ALL = "*";
+    static final char PREFIX_SEPARATOR = '#';
+    
+    private static final long SETTLE_MILLIS = 200;
+    private static final int EPOCH_MASK = 0xffffff; // epochs are packed into an int with a level by Log
+    
+    private static volatile List<Entry> _table = Collections.emptyList();
+    private static volatile int _epoch = 0;
+    
+    private LevelOverrides() {}
+    
+    // one override; most specific first
+    private static class Entry implements Comparable<Entry> {
+        final String name;    // logger name prefix, or ALL
+        final String prefix;  // text the Log's message prefix must contain, or null
+        final int level;
+        
+        Entry(String key, int level) {
+            int i = key.indexOf(PREFIX_SEPARATOR);
+            String n = (i < 0 ? key : key.substring(0, i)).trim();
+            name = n.isEmpty() ? ALL : n;
+            prefix = i < 0 ? null : key.substring(i + 1);
+            this.level = level;
+        }
+        
+        boolean matches(String loggerName, String logPrefix) {
+            if (prefix != null && !logPrefix.contains(prefix)) return false;
+            if (name.equals(ALL) || name.equals(loggerName)) return true;
+            return loggerName.startsWith(name) && loggerName.charAt(name.length()) == '.';
+        }
+        
+        @Override public int compareTo(Entry other) {
+            if ((prefix == null) != (other.prefix == null)) return prefix == null ? 1 : -1;
+            int byName = specificity(other.name) - specificity(name);
+            return byName != 0 ? byName : (other.prefix == null ? 0 : other.prefix.length()) - (prefix == null ? 0 : prefix.length());
+        }
+        
+        private static int specificity(String name) {
+            return name.equals(ALL) ? -1 : name.length();
+        }
+    }
+    
+    static int epoch() {
+        return _epoch;
+    }
+    
+    /**
+     * Returns the overriding level for the specified Log, or NONE
+     */
+    static int resolve(String loggerName, String logPrefix) {
+        for (Entry e : _table) {
+            if (e.matches(loggerName, logPrefix)) return e.level;
+        }
+        return NONE;
+    }
+    
+    static void set(Properties overrides) {
+        List<Entry> table = new ArrayList<>();
+        for (String key : overrides.stringPropertyNames()) {
+            table.add(new Entry(key, parseLevel(key, overrides.getProperty(key))));
+        }
+        Collections.sort(table);
+        install(Collections.unmodifiableList(table));
+    }
+    
+    static void clear() {
+        install(Collections.emptyList());
+    }
+    
+    // the table must be in place before the epoch changes, so that Logs
+    // re-resolving in the new epoch see it
+    private static synchronized void install(List<Entry> table) {
+        _table = table;
+        _epoch = (_epoch + 1) & EPOCH_MASK;
+    }
+    
+    private static int parseLevel(String key, String value) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "trace": return TRACE;
+            case "debug": return DEBUG;
+            case "info": return INFO;
+            case "warn": return WARN;
+            case "error": return ERROR;
+            case "off": return OFF;
+            default: throw new IllegalArgumentException(String.format("Invalid level for %s: %s", key, value));
+        }
+    }
+    
+    /**
+     * Loads overrides from a properties file, then reloads them whenever the
+     * file changes.  The overrides are cleared if the file is deleted, and left
+     * alone if it cannot be read or is invalid.
+     */
+    static Closeable watch(Path file) throws IOException {
+        Path path = file.toAbsolutePath();
+        WatchService watcher = path.getFileSystem().newWatchService();
+        try {
+            path.getParent().register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                                               StandardWatchEventKinds.ENTRY_MODIFY,
+                                               StandardWatchEventKinds.ENTRY_DELETE);
+            if (Files.exists(path)) set(load(path));
+        } catch (IOException | RuntimeException e) {
+            watcher.close();
+            throw e;
+        }
+        Thread t = new Thread(() -> reloadOnChange(watcher, path), "martian-log-level-overrides");
+        t.setDaemon(true);
+        t.start();
+        return watcher;
+    }
+    
+    private static void reloadOnChange(WatchService watcher, Path path) {
+        try {
+            while (true) {
+                // a single save can arrive as several events (e.g. truncate, then
+                // write), so wait for them to settle before reloading once
+                boolean changed = false;
+                for (WatchKey key = watcher.take(); key != null; key = watcher.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        changed |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                                   || path.getFileName().equals(event.context());
+                    }
+                    key.reset();
+                }
+                if (changed) reload(path);
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // closed by the caller; stop watching
+        }
+    }
+    
+    private static void reload(Path path) {
+        try {
+            set(load(path));
+        } catch (NoSuchFileException e) {
+            clear();
+        } catch (Exception e) {
+            System.err.format("Unable to load log level overrides from %s:%n", path);
+            e.printStackTrace();
+        }
+    }
+    
+    private static Properties load(Path path) throws IOException {
+        Properties result = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            result.load(in);
+        }
+        return result;
+    }
+}
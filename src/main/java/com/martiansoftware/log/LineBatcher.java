@@ -0,0 +1,58 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.function.Consumer;
+
+/**
+ * Joins consecutive messages into multi-line chunks and prints each chunk
+ * to a SingleLevelLogger as a single message.  A chunk is printed once it
+ * holds maxLines messages or once the next message would make it longer than
+ * maxChars (a single message longer than maxChars is printed on its own).
+ */
+final class LineBatcher implements Consumer<String> {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final int MAX_INITIAL_CAPACITY = 8192;
+    
+    private final SingleLevelLogger _sll;
+    private final int _maxLines, _maxChars;
+    private final StringBuilder _chunk;
+    private int _lines = 0;
+    
+    LineBatcher(SingleLevelLogger sll, int maxLines, int maxChars) {
+        _sll = sll;
+        _maxLines = Math.max(1, maxLines);
+        _maxChars = Math.max(1, maxChars);
+        _chunk = new StringBuilder(Math.min(_maxChars, MAX_INITIAL_CAPACITY));
+    }
+    
+    @Override
+    public void accept(String message) {
+        String s = String.valueOf(message);
+        if (_lines > 0 && _chunk.length() + LINE_SEPARATOR.length() + s.length() > _maxChars) flush();
+        if (_lines > 0) _chunk.append(LINE_SEPARATOR);
+        _chunk.append(s);
+        if (++_lines == _maxLines) flush();
+    }
+    
+    void flush() {
+        if (_lines > 0) {
+            _sll.print(_chunk.toString());
+            _chunk.setLength(0);
+            _lines = 0;
+        }
+    }
+}
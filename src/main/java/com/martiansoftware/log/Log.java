@@ -14,19 +14,21 @@ package com.martiansoftware.log;
 //   See the License for the specific language governing permissions and
 //   limitations under the License.
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.PrintStream;
-import java.util.function.BiConsumer;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.function.Supplier;
-import org.fusesource.jansi.Ansi;
 import org.fusesource.jansi.AnsiConsole;
-import org.fusesource.jansi.AnsiRenderer;
-import org.fusesource.jansi.AnsiString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
-import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.event.Level;
 
 /**
  * An extension of the slf4j Logger that provides some additional functionality:
@@ -52,35 +54,62 @@ import org.slf4j.helpers.MessageFormatter;
 public class Log implements Logger {
        
     private static final MultiConsumer<Throwable> _globalThrowableHandlers = new MultiConsumer<>();
-    private static final Function<String, String> DEFAULT_STRINGTWEAKER = s -> s;
+    private static final String NO_PREFIX = "";
     
     protected final Logger _delegate; 
-    private final MultiConsumer<Throwable> _throwableHandlers = new MultiConsumer<>();
-    private final Function<String, String> _stringTweaker;
+    private volatile MultiConsumer<Throwable> _throwableHandlers; // created on first use; most Logs never have any
+    private final String _prefix; // prepended to every message; never null
+    private Metrics.Counters _metrics; // looked up on first use while metrics are enabled
+    private int _override; // LevelOverrides epoch << 8 | resolved level; racy but idempotent
     
     static {
         AnsiConsole.systemInstall();
     }
     
-    Log(Logger delegate, Function<String, String> stringTweaker) {
+    Log(Logger delegate, String prefix) {
         _delegate = delegate;
-        _stringTweaker = stringTweaker;
+        _prefix = prefix;
     }
     
     public static Log me() {
-        return new Log(LoggerFactory.getLogger(CallerOf.stackAncestor(1)), DEFAULT_STRINGTWEAKER);
+        return forClass(CallerOf.stackAncestor(1));
     }
     
     public static Log named(String name) {
-        return new Log(LoggerFactory.getLogger(name), DEFAULT_STRINGTWEAKER);
+        return new Log(LoggerFactory.getLogger(name), NO_PREFIX);
     }
     
     public static Log forClass(Class clazz) {
-        return new Log(LoggerFactory.getLogger(clazz), DEFAULT_STRINGTWEAKER);
+        return _canonical ? CANONICAL_LOGS.get(clazz) : new Log(LoggerFactory.getLogger(clazz), NO_PREFIX);
+    }
+    
+// -----------------------------------------------------------------------------
+// optional sharing of a single Log per class
+    
+    private static final ClassValue<Log> CANONICAL_LOGS = new ClassValue<Log>() {
+        @Override protected Log computeValue(Class<?> clazz) {
+            return new Log(LoggerFactory.getLogger(clazz), NO_PREFIX);
+        }
+    };
+    private static volatile boolean _canonical = Boolean.getBoolean("com.martiansoftware.log.canonical");
+    
+    /**
+     * Specifies whether Log.me() and Log.forClass() should return a single
+     * shared Log per class rather than a new Log for every call.  Disabled by
+     * default; can also be enabled via the com.martiansoftware.log.canonical
+     * system property.
+     * 
+     * Note that throwable handlers added via addThrowableHandler() to a
+     * shared Log apply to every user of that Log.
+     * 
+     * @param canonical true to share Logs per class
+     */
+    public static void useCanonicalLogs(boolean canonical) {
+        _canonical = canonical;
     }
     
     public Log withPrefix(String prefix) {
-        return new Log(_delegate, s -> prefix + tweak(s));
+        return new Log(_delegate, prefix + _prefix);
     }
     
     @Override
@@ -88,9 +117,112 @@ public class Log implements Logger {
         return _delegate.getName();
     }
     
+    // the shared counters for this Log's name; racy but idempotent
+    private Metrics.Counters counters() {
+        Metrics.Counters m = _metrics;
+        if (m == null) _metrics = m = Metrics.forName(getName());
+        return m;
+    }
+    
+    // this Log's LevelOverrides level, re-resolved whenever the table has changed
+    private int override() {
+        int o = _override, epoch = LevelOverrides.epoch();
+        if (o >>> 8 != epoch) _override = o = epoch << 8 | LevelOverrides.resolve(getName(), _prefix);
+        return o & 0xff;
+    }
+    
+    // whether a disabled call at this level should go to the flight recorder
+    private static boolean recordable(Level level) {
+        return FlightRecorder.isEnabled() && level.compareTo(Level.DEBUG) >= 0;
+    }
+    
+    // called before an error is logged or a throwable is handled, to write out
+    // anything this thread has been holding back
+    private static void failing() {
+        if (FlightRecorder.isEnabled()) FlightRecorder.dump();
+        LogScope.fail();
+    }
+    
+    // counts a log call if metrics are enabled, returning whether the level is enabled
+    private boolean counted(Level level, boolean enabled) {
+        if (Metrics.isEnabled()) counters().call(level, enabled);
+        return enabled;
+    }
+    
     // performs any last-minute manipulation of log messages
     protected String tweak(String s) {
-        return _stringTweaker == null ? s : _stringTweaker.apply(s);        
+        String result = _prefix.isEmpty() ? s : _prefix + s;
+        if (Metrics.isEnabled()) counters().messageChars(result.length());
+        return result;
+    }
+    
+    // formats an slf4j-style message and tweaks it in a single pass
+    private String message(Level level, String format, Object arg) {
+        boolean jfr = Jfr.isLogEnabled();
+        long start = jfr ? System.nanoTime() : 0;
+        return formatted(level, format, jfr, start, FastFormatter.slf4j(_prefix, format, arg));
+    }
+    
+    private String message(Level level, String format, Object arg1, Object arg2) {
+        boolean jfr = Jfr.isLogEnabled();
+        long start = jfr ? System.nanoTime() : 0;
+        return formatted(level, format, jfr, start, FastFormatter.slf4j(_prefix, format, arg1, arg2));
+    }
+    
+    private String message(Level level, String format, Object[] arguments) {
+        boolean jfr = Jfr.isLogEnabled();
+        long start = jfr ? System.nanoTime() : 0;
+        return formatted(level, format, jfr, start, FastFormatter.slf4j(_prefix, format, arguments));
+    }
+    
+    // the same, with arguments that may be Primitives
+    private String message(Level level, String format, Object arg, long bits) {
+        boolean jfr = Jfr.isLogEnabled();
+        long start = jfr ? System.nanoTime() : 0;
+        return formatted(level, format, jfr, start, FastFormatter.slf4j(_prefix, format, arg, bits));
+    }
+    
+    private String message(Level level, String format, Object arg1, long bits1, Object arg2, long bits2) {
+        boolean jfr = Jfr.isLogEnabled();
+        long start = jfr ? System.nanoTime() : 0;
+        return formatted(level, format, jfr, start, FastFormatter.slf4j(_prefix, format, arg1, bits1, arg2, bits2));
+    }
+    
+    // evaluates the Supplier arguments of an enabled log call; a null
+    // Supplier stands for a null argument
+    private static Object supplied(Supplier<?> supplier) {
+        return supplier == null ? null : supplier.get();
+    }
+    
+    private static Object[] supplied(Supplier<?>[] suppliers) {
+        if (suppliers == null) return null;
+        Object[] result = new Object[suppliers.length];
+        for (int i = 0; i < suppliers.length; ++i) result[i] = supplied(suppliers[i]);
+        return result;
+    }
+    
+    // reports a just-formatted message to JFR (if recording) and metrics (if enabled)
+    private String formatted(Level level, String format, boolean jfr, long start, String message) {
+        if (jfr) Jfr.log(getName(), level.toString(), format, System.nanoTime() - start);
+        if (Metrics.isEnabled()) counters().messageChars(message.length());
+        return message;
+    }
+    
+    // formatting for the SingleLevelLogger String.format()-style methods
+    private String printf(Level level, String format, Object[] args) {
+        if (!Jfr.isLogEnabled()) return FastFormatter.printf(format, args);
+        long start = System.nanoTime();
+        String result = FastFormatter.printf(format, args);
+        Jfr.log(getName(), level.toString(), format, System.nanoTime() - start);
+        return result;
+    }
+    
+    private String printf(Level level, String format, int argc, Object arg1, long bits1, Object arg2, long bits2) {
+        if (!Jfr.isLogEnabled()) return FastFormatter.printf(format, argc, arg1, bits1, arg2, bits2);
+        long start = System.nanoTime();
+        String result = FastFormatter.printf(format, argc, arg1, bits1, arg2, bits2);
+        Jfr.log(getName(), level.toString(), format, System.nanoTime() - start);
+        return result;
     }
     
     
@@ -99,21 +231,44 @@ public class Log implements Logger {
 // reporting to a server, uploading log files, etc.
     
     protected void handleThrowable(Throwable t) {
+        failing();
+        boolean jfr = Jfr.isThrowableHandledEnabled(), metrics = Metrics.isEnabled();
+        if (!jfr && !metrics) {
+            dispatchThrowable(t);
+        } else {
+            long start = System.nanoTime();
+            dispatchThrowable(t);
+            long elapsed = System.nanoTime() - start;
+            if (jfr) Jfr.throwableHandled(t, elapsed);
+            if (metrics) counters().throwableHandled(elapsed);
+        }
+    }
+    
+    private void dispatchThrowable(Throwable t) {
         _globalThrowableHandlers.accept(t);
-        _throwableHandlers.accept(t);
+        MultiConsumer<Throwable> handlers = _throwableHandlers;
+        if (handlers != null) handlers.accept(t);
     }
 
     static String defaultMessageForThrowable(Throwable t) {
-        return String.format("%s: %s", t.getClass().getName(), t.getMessage());
+        return FastFormatter.printf("%s: %s", t.getClass().getName(), t.getMessage());
     }
 
     public Log addThrowableHandler(Consumer<Throwable> handler) {
-        _throwableHandlers.add(handler);
+        MultiConsumer<Throwable> handlers = _throwableHandlers;
+        if (handlers == null) {
+            synchronized(this) {
+                if (_throwableHandlers == null) _throwableHandlers = new MultiConsumer<>();
+                handlers = _throwableHandlers;
+            }
+        }
+        handlers.add(handler);
         return this;
     }
     
     public Log removeThrowableHandler(Consumer<Throwable> handler) {
-        _throwableHandlers.remove(handler);
+        MultiConsumer<Throwable> handlers = _throwableHandlers;
+        if (handlers != null) handlers.remove(handler);
         return this;
     }
 
@@ -125,470 +280,3233 @@ public class Log implements Logger {
         _globalThrowableHandlers.remove(handler);
     }
 
+// -----------------------------------------------------------------------------
+// console output
+    
+    /**
+     * Switches console output from cout, cwarn and cerr (which is normally
+     * written directly by the logging thread) to a bounded queue drained by
+     * a single writer thread, which writes and flushes in batches.  Output
+     * order is preserved.  Anything still queued is written on orderly JVM
+     * shutdown.
+     * 
+     * @param capacity the maximum number of lines waiting to be written
+     * @param policy what to do when the queue is full
+     */
+    public static void useAsyncConsole(int capacity, OverflowPolicy policy) {
+        Console.useAsync(capacity, policy);
+    }
+    
+    /**
+     * Writes any queued console output and returns to writing console output
+     * directly from the logging thread (the default).
+     */
+    public static void useSyncConsole() {
+        Console.useSync();
+    }
+    
+    /**
+     * Waits until all console output queued so far has been written.  Returns
+     * immediately if console output is not asynchronous.
+     * 
+     * @param timeoutMillis the maximum time to wait
+     * @return false if the timeout expired first
+     */
+    public static boolean flushConsole(long timeoutMillis) {
+        return Console.flush(timeoutMillis);
+    }
+    
+// -----------------------------------------------------------------------------
+// stopwatch aggregation
+    
+    /**
+     * Aggregates all subsequently created StopwatchLogs by name instead of
+     * logging each one.  Every reportInterval, a summary of the count, min,
+     * max, and 50th/90th/99th/99.9th percentile times is logged for each
+     * stopwatch name that finished during the interval.  Calling this again
+     * changes the interval.
+     * 
+     * Aggregation is meant for a fixed set of names, not names built per
+     * request.  At most 1024 names are aggregated at a time (each costs
+     * about 15 KB), and a name is forgotten after an interval in which no
+     * stopwatch with that name finished.  Stopwatches with names beyond the
+     * limit are logged individually.
+     * 
+     * @param reportInterval how often to log the summaries
+     */
+    public static void aggregateStopwatches(Duration reportInterval) {
+        StopwatchAggregator.enable(reportInterval);
+    }
+    
+    /**
+     * Logs a final summary and returns to logging each StopwatchLog
+     * individually (the default)
+     */
+    public static void stopAggregatingStopwatches() {
+        StopwatchAggregator.disable();
+    }
+    
+// -----------------------------------------------------------------------------
+// span recording
+    
+    /**
+     * Starts recording all StopwatchLogs and Stopwatches as spans.  Stopwatches
+     * opened inside each other on the same thread form a tree, and each
+     * completed tree (i.e., once its outermost stopwatch is closed) is kept
+     * in a buffer until written by writeSpans().  If the buffer is full, the
+     * oldest tree is discarded.  A tree still open after ten minutes, or with
+     * more than 4096 stopwatches, is also discarded (e.g. because its
+     * outermost stopwatch was never closed).
+     * 
+     * @param maxTrees the maximum number of completed trees to buffer
+     */
+    public static void recordSpans(int maxTrees) {
+        SpanRecorder.enable(maxTrees);
+    }
+    
+    /**
+     * Stops recording spans and discards any buffered trees
+     */
+    public static void stopRecordingSpans() {
+        SpanRecorder.disable();
+    }
+    
+    /**
+     * Removes all buffered span trees and writes them to the specified
+     * Writer as a Chrome Trace Event JSON document, which can be viewed in
+     * chrome://tracing or Perfetto.  The Writer is flushed but not closed.
+     * 
+     * @param out the Writer to write to
+     * @return the number of trees written
+     * @throws IOException if thrown by the Writer
+     */
+    public static int writeSpans(Writer out) throws IOException {
+        return SpanRecorder.write(out);
+    }
+    
+// -----------------------------------------------------------------------------
+// structured messages
+    
+    /**
+     * Sets the encoding of structured messages built via
+     * SingleLevelLogger.kv().  The default is KeyValueFormat.JSON.
+     * 
+     * @param format the encoding to use
+     */
+    public static void setKeyValueFormat(KeyValueFormat format) {
+        KeyValues.setFormat(format);
+    }
+    
+// -----------------------------------------------------------------------------
+// flight recorder
+    
+    /**
+     * Starts capturing trace and debug calls that are disabled in the backend,
+     * so the context leading up to a failure is available even though it was
+     * not logged.  Each thread records into its own off-heap ring buffer,
+     * without formatting any messages.  Whenever an error is logged or a
+     * Throwable is handled on a thread, that thread's captured messages from
+     * the last window are logged at WARN to their original loggers (prefixed
+     * with their original level and time) and discarded.
+     * 
+     * @param bytesPerThread the size of each thread's buffer (each message takes 256 bytes; rounded down to a power of two)
+     * @param window how far back to go when dumping captured messages
+     */
+    public static void enableFlightRecorder(int bytesPerThread, Duration window) {
+        FlightRecorder.enable(bytesPerThread, window);
+    }
+    
+    /**
+     * Stops capturing disabled trace and debug calls
+     */
+    public static void disableFlightRecorder() {
+        FlightRecorder.disable();
+    }
+    
+// -----------------------------------------------------------------------------
+// request-scoped buffering
+    
+    /**
+     * Opens a LogScope on the current thread that holds back trace, debug, and
+     * info messages (up to 1024 of them) until an error or Throwable shows they
+     * are needed.  Use with try-with-resources.
+     * 
+     * @return the scope
+     * @see #bufferScope(Level, int)
+     */
+    public static LogScope bufferScope() {
+        return bufferScope(Level.WARN, 1024);
+    }
+    
+    /**
+     * Opens a LogScope on the current thread: until it is closed, enabled log
+     * calls on this thread below the threshold level are held in the scope
+     * rather than logged.  If an error is logged or a Throwable is handled
+     * while the scope is open, the held messages are logged in order and the
+     * rest of the scope is logged normally; otherwise they are discarded when
+     * the scope is closed.  Use with try-with-resources.
+     * 
+     * @param threshold messages at this level and above are never held
+     * @param maxMessages the most messages to hold; older ones are dropped beyond this
+     * @return the scope
+     */
+    public static LogScope bufferScope(Level threshold, int maxMessages) {
+        return LogScope.open(threshold, maxMessages);
+    }
+    
+// -----------------------------------------------------------------------------
+// level overrides
+    
+    /**
+     * Replaces the backend's level checks for matching Logs.  Each key is a
+     * logger name, which also matches the loggers below it (e.g. "com.foo"
+     * matches "com.foo.Bar"), or "*" to match every logger.  A key may also
+     * end with "#" followed by text that must appear in a Log's prefix (see
+     * withPrefix()), e.g. "com.foo#[db] ".  Values are trace, debug, info,
+     * warn, error, or off.  Where several keys match a Log, those with prefix
+     * text win, then the longest logger name.
+     * 
+     * Overridden Logs no longer consult the backend to decide whether a level
+     * is enabled, but the backend still applies its own configuration to any
+     * messages it is sent, so overrides can only restrict its output.  Logs
+     * with no matching key are unaffected.  This replaces any previous
+     * overrides.
+     * 
+     * @param overrides the overrides, keyed by logger name
+     * @throws IllegalArgumentException if any level is invalid
+     */
+    public static void setLevelOverrides(Properties overrides) {
+        LevelOverrides.set(overrides);
+    }
+    
+    /**
+     * Removes all level overrides, returning level checks to the backend
+     */
+    public static void clearLevelOverrides() {
+        LevelOverrides.clear();
+    }
+    
+    /**
+     * Loads level overrides (see setLevelOverrides()) from a properties file,
+     * if it exists, and reloads them on a background thread whenever the file
+     * is changed.  Deleting the file clears the overrides; a file that cannot
+     * be loaded is reported on stderr and the previous overrides are kept.
+     * 
+     * @param file the properties file to watch
+     * @return a Closeable that stops watching the file (leaving the current overrides in place)
+     * @throws IOException if the file's directory cannot be watched or the file cannot be loaded
+     */
+    public static Closeable watchLevelOverrides(Path file) throws IOException {
+        return LevelOverrides.watch(file);
+    }
+    
+// -----------------------------------------------------------------------------
+// metrics
+    
+    /**
+     * Enables or disables counting of log calls (by level, enabled or not),
+     * message sizes, throwables handled, time spent in throwable handlers, and
+     * console lines, for each logger name.  Disabled by default; can also be
+     * enabled via the com.martiansoftware.log.metrics system property.  When
+     * first enabled, the metrics are also published via JMX as
+     * com.martiansoftware.log:type=LogMetrics.
+     * 
+     * @param enabled true to start counting, false to stop
+     */
+    public static void enableMetrics(boolean enabled) {
+        Metrics.setEnabled(enabled);
+    }
+    
+    /**
+     * Returns the metrics collected so far for each logger name, busiest
+     * (by number of enabled log calls) first.
+     * 
+     * @return a snapshot of the metrics for each logger name
+     */
+    public static List<LogMetrics> metrics() {
+        return Metrics.snapshot();
+    }
+    
+    /**
+     * Resets all metrics to zero
+     */
+    public static void resetMetrics() {
+        Metrics.reset();
+    }
+    
+// -----------------------------------------------------------------------------
+// caching of parsed String.format()-style format strings
+    
+    /**
+     * Replaces the cache of parsed SingleLevelLogger.format() format strings
+     * with a new, empty one holding at most the specified number of formats
+     * (0 disables caching).  The default size is 512, or the value of the
+     * com.martiansoftware.log.formatCacheSize system property.
+     * 
+     * @param size the maximum number of cached formats
+     */
+    public static void setFormatCacheSize(int size) {
+        FastFormatter.setTemplateCacheSize(size);
+    }
+    
+    /**
+     * @return a snapshot of the format string cache's counters
+     */
+    public static CacheStats formatCacheStats() {
+        return FastFormatter.templateCacheStats();
+    }
+
 // -----------------------------------------------------------------------------
 
-    // simple wrapper for slf4j loggers that outputs to an specific log level
-    private class SLL implements SingleLevelLogger {
+    // simple wrapper for slf4j loggers that outputs to an specific log level.
+    // one final subclass per level is generated below so that level checks
+    // and logging go straight to the delegate.
+    private abstract class SLL implements SingleLevelLogger, StopwatchSource, PrimitiveFormatter {
 
-        private final Supplier<Boolean> _enabledChecker;
-        private final Consumer<String> _logger;
-        private final BiConsumer<String, Throwable> _throwableLogger;
-        
-        SLL(Supplier<Boolean> enabledChecker, Consumer<String> logger, BiConsumer<String, Throwable> throwableLogger) {
-            _enabledChecker = enabledChecker;
-            _logger = logger;
-            _throwableLogger = throwableLogger;
-        }
+        // this level, for JFR events and metrics
+        abstract Level level();
         
-        @Override public boolean isEnabled() {
-            return _enabledChecker.get();
-        }
+        // logs to this level's delegate method; caller has checked isEnabled()
+        abstract void log(String message);
+        abstract void log(String message, Throwable t);
 
         @Override public SingleLevelLogger format(String format, Object... args) {
-            print(String.format(format, args));
+            if (counted(level(), isEnabled())) {
+                log(printf(level(), format, args));
+            } else if (recordable(level())) {
+                FlightRecorder.recordPrintf(getName(), level(), format, args);
+            }
+            return this;
+        }
+
+        @Override public SingleLevelLogger formatPrimitives(String format, int argc, Object arg1, long bits1, Object arg2, long bits2) {
+            if (counted(level(), isEnabled())) {
+                log(printf(level(), format, argc, arg1, bits1, arg2, bits2));
+            } else if (recordable(level())) {
+                FlightRecorder.recordPrintf(getName(), level(), format, argc, arg1, bits1, arg2, bits2);
+            }
             return this;
         }
 
         @Override public SingleLevelLogger throwable(Throwable t, String format, Object... args) {
-            _throwableLogger.accept(String.format(format, args), t);
+            if (counted(level(), isEnabled())) {
+                log(printf(level(), format, args), t);
+                handleThrowable(t);
+            }
             return this;
         }
 
         @Override
         public SingleLevelLogger print(String message) {
-            _logger.accept(message);
+            if (counted(level(), isEnabled())) {
+                log(message);
+            } else if (recordable(level())) {
+                FlightRecorder.record(getName(), level(), message);
+            }
             return this;
         }
         
         @Override public StopwatchLog stopwatch(String name) {
-            return new StopwatchLog(name, Log.this._delegate, Log.this._stringTweaker, this);
+            return stopwatch(name, this);
+        }
+        
+        @Override public StopwatchLog stopwatch(String name, SingleLevelLogger logStopwatchTo) {
+            return new StopwatchLog(name, Log.this._delegate, Log.this._prefix, logStopwatchTo);
         }
     }
     
 // -----------------------------------------------------------------------------
 
     // special version of SingleLevelLogger that always goes to console (stdout or stderr as needed)
-    // and optionally colors output (e.g. yellow for warnings and red for errors)
-    private class AnsiLogger implements SingleLevelLogger {
+    // and optionally colors output (e.g. yellow for warnings and red for errors).
+    // one final subclass per console level is generated below.
+    private abstract class AnsiLogger implements SingleLevelLogger, StopwatchSource, PrimitiveFormatter {
 
         private final PrintStream _out; // console output
-        private final Consumer<String> _logger; // slf4j output
-        private final BiConsumer<String, Throwable> _throwableLogger; // what to do with throwable messages
-        private final Function<Ansi, Ansi> _ansiConfig; // the ansi transform to use for console output
         
-        AnsiLogger(PrintStream out, Function<Ansi, Ansi> ansiConfig, Consumer<String> logger, BiConsumer<String, Throwable> throwableLogger) {
+        AnsiLogger(PrintStream out) {
             _out = out;
-            _ansiConfig = ansiConfig;
-            _logger = logger;
-            _throwableLogger = throwableLogger;
         }
         
+        // renders console output for this level
+        abstract AnsiStyle style();
+        
+        // whether the slf4j output is enabled
+        abstract boolean isSlf4jEnabled();
+        
+        // slf4j output; caller has checked isSlf4jEnabled()
+        abstract void log(String message);
+        abstract void log(String message, Throwable t);
+        
         @Override public boolean isEnabled() {
             return true; // ansi loggers are always enabled for console purposes, but their underlying slf4j loggers might not be 
         }
 
-        private boolean hasJansiSequence(String s) {
-            return s.contains("@|");
-        }
-
-        // process any ansi codes prior to console output
-        private String ansify(String s) {
-            if (hasJansiSequence(s)) { // if user specified a jansi sequence, let it override anything else we're doing (see http://fusesource.github.io/jansi/ )
-                return AnsiRenderer.render(s);
-            } else {
-                return _ansiConfig.apply(Ansi.ansi()).render(s).reset().toString();
+        // writes the message to the console and returns its plain form if
+        // slf4j output is enabled, or null if it is not
+        private String emit(String message) {
+            AnsiStyle style = style();
+            boolean slf4j = isSlf4jEnabled();
+            if (Metrics.isEnabled()) counters().consoleLine();
+            if (AnsiStyle.isPlain(message)) { // the common case never touches jansi
+                Console.println(_out, style.decorate(message));
+                return slf4j ? message : null;
             }
+            AnsiStyle.Rendered r = style.render(message);
+            Console.println(_out, r.colored);
+            return slf4j ? r.plain : null;
         }
-
-        // strip any ansi codes for slf4j output
-        private String noAnsify(String s) {
-            return new AnsiString(AnsiRenderer.render(s)).getPlain().toString();
+        
+        @Override
+        public SingleLevelLogger formatPrimitives(String format, int argc, Object arg1, long bits1, Object arg2, long bits2) {
+            return print(FastFormatter.printf(format, argc, arg1, bits1, arg2, bits2));
         }
         
         @Override
         public SingleLevelLogger throwable(Throwable t, String format, Object... args) {
             if (isEnabled()) {
-                String msg = String.format(format, args);
-                print(msg);
-                _throwableLogger.accept(noAnsify(msg), t);
+                String plain = emit(FastFormatter.printf(format, args));
+                if (plain != null) {
+                    log(plain);
+                    log(plain, t);
+                    handleThrowable(t);
+                }
             }
             return this;
         }        
 
         @Override
         public SingleLevelLogger print(String messge) {
-            _out.println(ansify(messge));
-            _logger.accept(noAnsify(messge));
+            String plain = emit(messge);
+            if (plain != null) log(plain); // skip stripping if nobody will see it
             return this;
         }
         
         @Override public StopwatchLog stopwatch(String name) {
-            return new StopwatchLog(name, Log.this._delegate, Log.this._stringTweaker, this);
+            return stopwatch(name, this);
+        }
+        
+        @Override public StopwatchLog stopwatch(String name, SingleLevelLogger logStopwatchTo) {
+            return new StopwatchLog(name, Log.this._delegate, Log.this._prefix, logStopwatchTo);
         }
     }
     
-    public final SingleLevelLogger trace = new SLL(() -> isTraceEnabled(), s -> trace(s), (s, t) -> trace(s, t));
-    public final SingleLevelLogger debug = new SLL(() -> isDebugEnabled(), s -> debug(s), (s, t) -> debug(s, t));
-    public final SingleLevelLogger info = new SLL(() -> isInfoEnabled(), s -> info(s), (s, t) -> info(s, t));
-    public final SingleLevelLogger warn = new SLL(() -> isWarnEnabled(), s -> warn(s), (s, t) -> warn(s, t));
-    public final SingleLevelLogger error = new SLL(() -> isErrorEnabled(), s -> error(s), (s, t) -> error(s, t));
-
-    public final SingleLevelLogger cout = new AnsiLogger(System.out, a -> a, s -> info(s), (s, t) -> info(s, t));
-    public final SingleLevelLogger cwarn = new AnsiLogger(System.err, a -> a.bold().fgBrightYellow(), s -> warn(s), (s, t) -> warn(s, t));
-    public final SingleLevelLogger cerr = new AnsiLogger(System.err, a -> a.bold().fgBrightRed(), s -> error(s), (s, t) -> error(s, t));
+    public final SingleLevelLogger trace = new TraceLogger();
+    public final SingleLevelLogger debug = new DebugLogger();
+    public final SingleLevelLogger info = new InfoLogger();
+    public final SingleLevelLogger warn = new WarnLogger();
+    public final SingleLevelLogger error = new ErrorLogger();
+
+    public final SingleLevelLogger cout = new CoutLogger();
+    public final SingleLevelLogger cwarn = new CwarnLogger();
+    public final SingleLevelLogger cerr = new CerrLogger();
     
 // -----------------------------------------------------------------------------
     
 // ## THE FOLLOWING CODE IS GENERATED BY scripts/updateLogJava
 // ## BEGIN GENERATED CODE - DO NOT EDIT BELOW THIS LINE ##
     @Override public boolean isTraceEnabled() {
-        return _delegate.isTraceEnabled();
+        int override = override();
+        return override == LevelOverrides.NONE ? _delegate.isTraceEnabled() : override <= LevelOverrides.TRACE;
     }
 
     @Override public boolean isTraceEnabled(Marker marker) {
-        return _delegate.isTraceEnabled(marker);
+        int override = override();
+        return override == LevelOverrides.NONE ? _delegate.isTraceEnabled(marker) : override <= LevelOverrides.TRACE;
     }
 
     @Override public void trace(String msg) {
-        if(isTraceEnabled()) {
-            _delegate.trace(tweak(msg));
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = tweak(msg);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, msg);
         }
     }
 
     @Override public void trace(String format, Object arg) {
-        if(isTraceEnabled()) {
-            _delegate.trace(tweak(MessageFormatter.format(format, arg).getMessage()));
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arg);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arg);
         }
     }
 
     @Override public void trace(String format, Object arg1, Object arg2) {
-        if(isTraceEnabled()) {
-            _delegate.trace(tweak(MessageFormatter.format(format, arg1, arg2).getMessage()));
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arg1, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arg1, arg2);
         }
     }
 
     @Override public void trace(String format, Object... arguments) {
-        if(isTraceEnabled()) {
-            _delegate.trace(tweak(MessageFormatter.format(format, arguments).getMessage()));
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arguments);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arguments);
         }
     }
 
     @Override public void trace(String msg, Throwable t) {
-        if (isTraceEnabled()) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            failing();
             _delegate.trace(tweak(msg), t);
             handleThrowable(t);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, msg, t);
         }
     }
 
     @Override public void trace(Marker marker, String msg) {
-        if (isTraceEnabled()) {
-            _delegate.trace(marker, tweak(msg));
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = tweak(msg);
+            if (!LogScope.hold(_delegate, Level.TRACE, marker, m)) _delegate.trace(marker, m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, msg);
         }
     }
 
     @Override public void trace(Marker marker, String format, Object arg) {
-        if(isTraceEnabled()) {
-            _delegate.trace(marker, tweak(MessageFormatter.format(format, arg).getMessage()));
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arg);
+            if (!LogScope.hold(_delegate, Level.TRACE, marker, m)) _delegate.trace(marker, m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arg);
         }
     }
 
     @Override public void trace(Marker marker, String format, Object arg1, Object arg2) {
-        if(isTraceEnabled()) {
-            _delegate.trace(marker, tweak(MessageFormatter.format(format, arg1, arg2).getMessage()));
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arg1, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, marker, m)) _delegate.trace(marker, m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arg1, arg2);
         }
     }
 
     @Override public void trace(Marker marker, String format, Object... arguments) {
-        if(isTraceEnabled()) {
-            _delegate.trace(marker, tweak(MessageFormatter.format(format, arguments).getMessage()));
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arguments);
+            if (!LogScope.hold(_delegate, Level.TRACE, marker, m)) _delegate.trace(marker, m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arguments);
         }
     }
 
     @Override public void trace(Marker marker, String msg, Throwable t) {
-        if (isTraceEnabled()) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            failing();
             _delegate.trace(marker, tweak(msg), t);
             handleThrowable(t);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, msg, t);
         }
     }
 
     @Override public boolean isDebugEnabled() {
-        return _delegate.isDebugEnabled();
+        int override = override();
+        return override == LevelOverrides.NONE ? _delegate.isDebugEnabled() : override <= LevelOverrides.DEBUG;
     }
 
     @Override public boolean isDebugEnabled(Marker marker) {
-        return _delegate.isDebugEnabled(marker);
+        int override = override();
+        return override == LevelOverrides.NONE ? _delegate.isDebugEnabled(marker) : override <= LevelOverrides.DEBUG;
     }
 
     @Override public void debug(String msg) {
-        if(isDebugEnabled()) {
-            _delegate.debug(tweak(msg));
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = tweak(msg);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, msg);
         }
     }
 
     @Override public void debug(String format, Object arg) {
-        if(isDebugEnabled()) {
-            _delegate.debug(tweak(MessageFormatter.format(format, arg).getMessage()));
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arg);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arg);
         }
     }
 
     @Override public void debug(String format, Object arg1, Object arg2) {
-        if(isDebugEnabled()) {
-            _delegate.debug(tweak(MessageFormatter.format(format, arg1, arg2).getMessage()));
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arg1, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arg1, arg2);
         }
     }
 
     @Override public void debug(String format, Object... arguments) {
-        if(isDebugEnabled()) {
-            _delegate.debug(tweak(MessageFormatter.format(format, arguments).getMessage()));
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arguments);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arguments);
         }
     }
 
     @Override public void debug(String msg, Throwable t) {
-        if (isDebugEnabled()) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            failing();
             _delegate.debug(tweak(msg), t);
             handleThrowable(t);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, msg, t);
         }
     }
 
     @Override public void debug(Marker marker, String msg) {
-        if (isDebugEnabled()) {
-            _delegate.debug(marker, tweak(msg));
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = tweak(msg);
+            if (!LogScope.hold(_delegate, Level.DEBUG, marker, m)) _delegate.debug(marker, m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, msg);
         }
     }
 
     @Override public void debug(Marker marker, String format, Object arg) {
-        if(isDebugEnabled()) {
-            _delegate.debug(marker, tweak(MessageFormatter.format(format, arg).getMessage()));
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arg);
+            if (!LogScope.hold(_delegate, Level.DEBUG, marker, m)) _delegate.debug(marker, m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arg);
         }
     }
 
     @Override public void debug(Marker marker, String format, Object arg1, Object arg2) {
-        if(isDebugEnabled()) {
-            _delegate.debug(marker, tweak(MessageFormatter.format(format, arg1, arg2).getMessage()));
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arg1, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, marker, m)) _delegate.debug(marker, m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arg1, arg2);
         }
     }
 
     @Override public void debug(Marker marker, String format, Object... arguments) {
-        if(isDebugEnabled()) {
-            _delegate.debug(marker, tweak(MessageFormatter.format(format, arguments).getMessage()));
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arguments);
+            if (!LogScope.hold(_delegate, Level.DEBUG, marker, m)) _delegate.debug(marker, m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arguments);
         }
     }
 
     @Override public void debug(Marker marker, String msg, Throwable t) {
-        if (isDebugEnabled()) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            failing();
             _delegate.debug(marker, tweak(msg), t);
             handleThrowable(t);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, msg, t);
         }
     }
 
     @Override public boolean isInfoEnabled() {
-        return _delegate.isInfoEnabled();
+        int override = override();
+        return override == LevelOverrides.NONE ? _delegate.isInfoEnabled() : override <= LevelOverrides.INFO;
     }
 
     @Override public boolean isInfoEnabled(Marker marker) {
-        return _delegate.isInfoEnabled(marker);
+        int override = override();
+        return override == LevelOverrides.NONE ? _delegate.isInfoEnabled(marker) : override <= LevelOverrides.INFO;
     }
 
     @Override public void info(String msg) {
-        if(isInfoEnabled()) {
-            _delegate.info(tweak(msg));
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = tweak(msg);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
         }
     }
 
     @Override public void info(String format, Object arg) {
-        if(isInfoEnabled()) {
-            _delegate.info(tweak(MessageFormatter.format(format, arg).getMessage()));
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arg);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
         }
     }
 
     @Override public void info(String format, Object arg1, Object arg2) {
-        if(isInfoEnabled()) {
-            _delegate.info(tweak(MessageFormatter.format(format, arg1, arg2).getMessage()));
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arg1, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
         }
     }
 
     @Override public void info(String format, Object... arguments) {
-        if(isInfoEnabled()) {
-            _delegate.info(tweak(MessageFormatter.format(format, arguments).getMessage()));
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arguments);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
         }
     }
 
     @Override public void info(String msg, Throwable t) {
-        if (isInfoEnabled()) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            failing();
             _delegate.info(tweak(msg), t);
             handleThrowable(t);
         }
     }
 
     @Override public void info(Marker marker, String msg) {
-        if (isInfoEnabled()) {
-            _delegate.info(marker, tweak(msg));
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = tweak(msg);
+            if (!LogScope.hold(_delegate, Level.INFO, marker, m)) _delegate.info(marker, m);
         }
     }
 
     @Override public void info(Marker marker, String format, Object arg) {
-        if(isInfoEnabled()) {
-            _delegate.info(marker, tweak(MessageFormatter.format(format, arg).getMessage()));
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arg);
+            if (!LogScope.hold(_delegate, Level.INFO, marker, m)) _delegate.info(marker, m);
         }
     }
 
     @Override public void info(Marker marker, String format, Object arg1, Object arg2) {
-        if(isInfoEnabled()) {
-            _delegate.info(marker, tweak(MessageFormatter.format(format, arg1, arg2).getMessage()));
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arg1, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, marker, m)) _delegate.info(marker, m);
         }
     }
 
     @Override public void info(Marker marker, String format, Object... arguments) {
-        if(isInfoEnabled()) {
-            _delegate.info(marker, tweak(MessageFormatter.format(format, arguments).getMessage()));
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arguments);
+            if (!LogScope.hold(_delegate, Level.INFO, marker, m)) _delegate.info(marker, m);
         }
     }
 
     @Override public void info(Marker marker, String msg, Throwable t) {
-        if (isInfoEnabled()) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            failing();
             _delegate.info(marker, tweak(msg), t);
             handleThrowable(t);
         }
     }
 
     @Override public boolean isWarnEnabled() {
-        return _delegate.isWarnEnabled();
+        int override = override();
+        return override == LevelOverrides.NONE ? _delegate.isWarnEnabled() : override <= LevelOverrides.WARN;
     }
 
     @Override public boolean isWarnEnabled(Marker marker) {
-        return _delegate.isWarnEnabled(marker);
+        int override = override();
+        return override == LevelOverrides.NONE ? _delegate.isWarnEnabled(marker) : override <= LevelOverrides.WARN;
     }
 
     @Override public void warn(String msg) {
-        if(isWarnEnabled()) {
-            _delegate.warn(tweak(msg));
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = tweak(msg);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
         }
     }
 
     @Override public void warn(String format, Object arg) {
-        if(isWarnEnabled()) {
-            _delegate.warn(tweak(MessageFormatter.format(format, arg).getMessage()));
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arg);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
         }
     }
 
     @Override public void warn(String format, Object arg1, Object arg2) {
-        if(isWarnEnabled()) {
-            _delegate.warn(tweak(MessageFormatter.format(format, arg1, arg2).getMessage()));
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arg1, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
         }
     }
 
     @Override public void warn(String format, Object... arguments) {
-        if(isWarnEnabled()) {
-            _delegate.warn(tweak(MessageFormatter.format(format, arguments).getMessage()));
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arguments);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
         }
     }
 
     @Override public void warn(String msg, Throwable t) {
-        if (isWarnEnabled()) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            failing();
             _delegate.warn(tweak(msg), t);
             handleThrowable(t);
         }
     }
 
     @Override public void warn(Marker marker, String msg) {
-        if (isWarnEnabled()) {
-            _delegate.warn(marker, tweak(msg));
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = tweak(msg);
+            if (!LogScope.hold(_delegate, Level.WARN, marker, m)) _delegate.warn(marker, m);
         }
     }
 
     @Override public void warn(Marker marker, String format, Object arg) {
-        if(isWarnEnabled()) {
-            _delegate.warn(marker, tweak(MessageFormatter.format(format, arg).getMessage()));
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arg);
+            if (!LogScope.hold(_delegate, Level.WARN, marker, m)) _delegate.warn(marker, m);
         }
     }
 
     @Override public void warn(Marker marker, String format, Object arg1, Object arg2) {
-        if(isWarnEnabled()) {
-            _delegate.warn(marker, tweak(MessageFormatter.format(format, arg1, arg2).getMessage()));
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arg1, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, marker, m)) _delegate.warn(marker, m);
         }
     }
 
     @Override public void warn(Marker marker, String format, Object... arguments) {
-        if(isWarnEnabled()) {
-            _delegate.warn(marker, tweak(MessageFormatter.format(format, arguments).getMessage()));
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arguments);
+            if (!LogScope.hold(_delegate, Level.WARN, marker, m)) _delegate.warn(marker, m);
         }
     }
 
     @Override public void warn(Marker marker, String msg, Throwable t) {
-        if (isWarnEnabled()) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            failing();
             _delegate.warn(marker, tweak(msg), t);
             handleThrowable(t);
         }
     }
 
     @Override public boolean isErrorEnabled() {
-        return _delegate.isErrorEnabled();
+        int override = override();
+        return override == LevelOverrides.NONE ? _delegate.isErrorEnabled() : override <= LevelOverrides.ERROR;
     }
 
     @Override public boolean isErrorEnabled(Marker marker) {
-        return _delegate.isErrorEnabled(marker);
+        int override = override();
+        return override == LevelOverrides.NONE ? _delegate.isErrorEnabled(marker) : override <= LevelOverrides.ERROR;
     }
 
     @Override public void error(String msg) {
-        if(isErrorEnabled()) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
             _delegate.error(tweak(msg));
         }
     }
 
     @Override public void error(String format, Object arg) {
-        if(isErrorEnabled()) {
-            _delegate.error(tweak(MessageFormatter.format(format, arg).getMessage()));
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, arg));
         }
     }
 
     @Override public void error(String format, Object arg1, Object arg2) {
-        if(isErrorEnabled()) {
-            _delegate.error(tweak(MessageFormatter.format(format, arg1, arg2).getMessage()));
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, arg1, arg2));
         }
     }
 
     @Override public void error(String format, Object... arguments) {
-        if(isErrorEnabled()) {
-            _delegate.error(tweak(MessageFormatter.format(format, arguments).getMessage()));
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, arguments));
         }
     }
 
     @Override public void error(String msg, Throwable t) {
-        if (isErrorEnabled()) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
             _delegate.error(tweak(msg), t);
             handleThrowable(t);
         }
     }
 
     @Override public void error(Marker marker, String msg) {
-        if (isErrorEnabled()) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
             _delegate.error(marker, tweak(msg));
         }
     }
 
     @Override public void error(Marker marker, String format, Object arg) {
-        if(isErrorEnabled()) {
-            _delegate.error(marker, tweak(MessageFormatter.format(format, arg).getMessage()));
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(marker, message(Level.ERROR, format, arg));
         }
     }
 
     @Override public void error(Marker marker, String format, Object arg1, Object arg2) {
-        if(isErrorEnabled()) {
-            _delegate.error(marker, tweak(MessageFormatter.format(format, arg1, arg2).getMessage()));
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(marker, message(Level.ERROR, format, arg1, arg2));
         }
     }
 
     @Override public void error(Marker marker, String format, Object... arguments) {
-        if(isErrorEnabled()) {
-            _delegate.error(marker, tweak(MessageFormatter.format(format, arguments).getMessage()));
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(marker, message(Level.ERROR, format, arguments));
         }
     }
 
     @Override public void error(Marker marker, String msg, Throwable t) {
-        if (isErrorEnabled()) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
             _delegate.error(marker, tweak(msg), t);
             handleThrowable(t);
         }
     }
 
+    public void trace(String format, boolean arg) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg));
+        }
+    }
+
+    public void trace(String format, char arg) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.CHAR, arg);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.CHAR, arg);
+        }
+    }
+
+    public void trace(String format, int arg) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.INT, arg);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.INT, arg);
+        }
+    }
+
+    public void trace(String format, long arg) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.LONG, arg);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.LONG, arg);
+        }
+    }
+
+    public void trace(String format, float arg) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg));
+        }
+    }
+
+    public void trace(String format, double arg) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg));
+        }
+    }
+
+    public void trace(String format, Object arg1, boolean arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arg1, 0, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arg1, 0, Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, Object arg1, char arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arg1, 0, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arg1, 0, Primitive.CHAR, arg2);
+        }
+    }
+
+    public void trace(String format, Object arg1, int arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arg1, 0, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arg1, 0, Primitive.INT, arg2);
+        }
+    }
+
+    public void trace(String format, Object arg1, long arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arg1, 0, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arg1, 0, Primitive.LONG, arg2);
+        }
+    }
+
+    public void trace(String format, Object arg1, float arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arg1, 0, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arg1, 0, Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, Object arg1, double arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, arg1, 0, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, arg1, 0, Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, boolean arg1, Object arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), arg2, 0);
+        }
+    }
+
+    public void trace(String format, boolean arg1, boolean arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, boolean arg1, char arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.CHAR, arg2);
+        }
+    }
+
+    public void trace(String format, boolean arg1, int arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.INT, arg2);
+        }
+    }
+
+    public void trace(String format, boolean arg1, long arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.LONG, arg2);
+        }
+    }
+
+    public void trace(String format, boolean arg1, float arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, boolean arg1, double arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, char arg1, Object arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.CHAR, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.CHAR, arg1, arg2, 0);
+        }
+    }
+
+    public void trace(String format, char arg1, boolean arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.CHAR, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.CHAR, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, char arg1, char arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.CHAR, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.CHAR, arg1, Primitive.CHAR, arg2);
+        }
+    }
+
+    public void trace(String format, char arg1, int arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.CHAR, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.CHAR, arg1, Primitive.INT, arg2);
+        }
+    }
+
+    public void trace(String format, char arg1, long arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.CHAR, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.CHAR, arg1, Primitive.LONG, arg2);
+        }
+    }
+
+    public void trace(String format, char arg1, float arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.CHAR, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.CHAR, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, char arg1, double arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.CHAR, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.CHAR, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, int arg1, Object arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.INT, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.INT, arg1, arg2, 0);
+        }
+    }
+
+    public void trace(String format, int arg1, boolean arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.INT, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.INT, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, int arg1, char arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.INT, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.INT, arg1, Primitive.CHAR, arg2);
+        }
+    }
+
+    public void trace(String format, int arg1, int arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.INT, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.INT, arg1, Primitive.INT, arg2);
+        }
+    }
+
+    public void trace(String format, int arg1, long arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.INT, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.INT, arg1, Primitive.LONG, arg2);
+        }
+    }
+
+    public void trace(String format, int arg1, float arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.INT, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.INT, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, int arg1, double arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.INT, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.INT, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, long arg1, Object arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.LONG, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.LONG, arg1, arg2, 0);
+        }
+    }
+
+    public void trace(String format, long arg1, boolean arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.LONG, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.LONG, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, long arg1, char arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.LONG, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.LONG, arg1, Primitive.CHAR, arg2);
+        }
+    }
+
+    public void trace(String format, long arg1, int arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.LONG, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.LONG, arg1, Primitive.INT, arg2);
+        }
+    }
+
+    public void trace(String format, long arg1, long arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.LONG, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.LONG, arg1, Primitive.LONG, arg2);
+        }
+    }
+
+    public void trace(String format, long arg1, float arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.LONG, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.LONG, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, long arg1, double arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.LONG, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.LONG, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, float arg1, Object arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), arg2, 0);
+        }
+    }
+
+    public void trace(String format, float arg1, boolean arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, float arg1, char arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.CHAR, arg2);
+        }
+    }
+
+    public void trace(String format, float arg1, int arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.INT, arg2);
+        }
+    }
+
+    public void trace(String format, float arg1, long arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.LONG, arg2);
+        }
+    }
+
+    public void trace(String format, float arg1, float arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, float arg1, double arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, double arg1, Object arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), arg2, 0);
+        }
+    }
+
+    public void trace(String format, double arg1, boolean arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, double arg1, char arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.CHAR, arg2);
+        }
+    }
+
+    public void trace(String format, double arg1, int arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.INT, arg2);
+        }
+    }
+
+    public void trace(String format, double arg1, long arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.LONG, arg2);
+        }
+    }
+
+    public void trace(String format, double arg1, float arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, double arg1, double arg2) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.TRACE, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void trace(String format, Supplier<?> arg) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, supplied(arg));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        }
+    }
+
+    public void trace(String format, Supplier<?>... arguments) {
+        if(counted(Level.TRACE, isTraceEnabled())) {
+            String m = message(Level.TRACE, format, supplied(arguments));
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        }
+    }
+
+    public void debug(String format, boolean arg) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg));
+        }
+    }
+
+    public void debug(String format, char arg) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.CHAR, arg);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.CHAR, arg);
+        }
+    }
+
+    public void debug(String format, int arg) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.INT, arg);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.INT, arg);
+        }
+    }
+
+    public void debug(String format, long arg) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.LONG, arg);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.LONG, arg);
+        }
+    }
+
+    public void debug(String format, float arg) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg));
+        }
+    }
+
+    public void debug(String format, double arg) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg));
+        }
+    }
+
+    public void debug(String format, Object arg1, boolean arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arg1, 0, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arg1, 0, Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, Object arg1, char arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arg1, 0, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arg1, 0, Primitive.CHAR, arg2);
+        }
+    }
+
+    public void debug(String format, Object arg1, int arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arg1, 0, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arg1, 0, Primitive.INT, arg2);
+        }
+    }
+
+    public void debug(String format, Object arg1, long arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arg1, 0, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arg1, 0, Primitive.LONG, arg2);
+        }
+    }
+
+    public void debug(String format, Object arg1, float arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arg1, 0, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arg1, 0, Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, Object arg1, double arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, arg1, 0, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, arg1, 0, Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, boolean arg1, Object arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), arg2, 0);
+        }
+    }
+
+    public void debug(String format, boolean arg1, boolean arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, boolean arg1, char arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.CHAR, arg2);
+        }
+    }
+
+    public void debug(String format, boolean arg1, int arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.INT, arg2);
+        }
+    }
+
+    public void debug(String format, boolean arg1, long arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.LONG, arg2);
+        }
+    }
+
+    public void debug(String format, boolean arg1, float arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, boolean arg1, double arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, char arg1, Object arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.CHAR, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.CHAR, arg1, arg2, 0);
+        }
+    }
+
+    public void debug(String format, char arg1, boolean arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, char arg1, char arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.CHAR, arg2);
+        }
+    }
+
+    public void debug(String format, char arg1, int arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.INT, arg2);
+        }
+    }
+
+    public void debug(String format, char arg1, long arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.LONG, arg2);
+        }
+    }
+
+    public void debug(String format, char arg1, float arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, char arg1, double arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.CHAR, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, int arg1, Object arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.INT, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.INT, arg1, arg2, 0);
+        }
+    }
+
+    public void debug(String format, int arg1, boolean arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.INT, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.INT, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, int arg1, char arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.INT, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.INT, arg1, Primitive.CHAR, arg2);
+        }
+    }
+
+    public void debug(String format, int arg1, int arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.INT, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.INT, arg1, Primitive.INT, arg2);
+        }
+    }
+
+    public void debug(String format, int arg1, long arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.INT, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.INT, arg1, Primitive.LONG, arg2);
+        }
+    }
+
+    public void debug(String format, int arg1, float arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.INT, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.INT, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, int arg1, double arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.INT, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.INT, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, long arg1, Object arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.LONG, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.LONG, arg1, arg2, 0);
+        }
+    }
+
+    public void debug(String format, long arg1, boolean arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.LONG, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.LONG, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, long arg1, char arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.LONG, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.LONG, arg1, Primitive.CHAR, arg2);
+        }
+    }
+
+    public void debug(String format, long arg1, int arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.LONG, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.LONG, arg1, Primitive.INT, arg2);
+        }
+    }
+
+    public void debug(String format, long arg1, long arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.LONG, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.LONG, arg1, Primitive.LONG, arg2);
+        }
+    }
+
+    public void debug(String format, long arg1, float arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.LONG, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.LONG, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, long arg1, double arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.LONG, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.LONG, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, float arg1, Object arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), arg2, 0);
+        }
+    }
+
+    public void debug(String format, float arg1, boolean arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, float arg1, char arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.CHAR, arg2);
+        }
+    }
+
+    public void debug(String format, float arg1, int arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.INT, arg2);
+        }
+    }
+
+    public void debug(String format, float arg1, long arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.LONG, arg2);
+        }
+    }
+
+    public void debug(String format, float arg1, float arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, float arg1, double arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, double arg1, Object arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), arg2, 0);
+        }
+    }
+
+    public void debug(String format, double arg1, boolean arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, double arg1, char arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.CHAR, arg2);
+        }
+    }
+
+    public void debug(String format, double arg1, int arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.INT, arg2);
+        }
+    }
+
+    public void debug(String format, double arg1, long arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.LONG, arg2);
+        }
+    }
+
+    public void debug(String format, double arg1, float arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, double arg1, double arg2) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        } else if (FlightRecorder.isEnabled()) {
+            FlightRecorder.record(getName(), Level.DEBUG, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+        }
+    }
+
+    public void debug(String format, Supplier<?> arg) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, supplied(arg));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        }
+    }
+
+    public void debug(String format, Supplier<?>... arguments) {
+        if(counted(Level.DEBUG, isDebugEnabled())) {
+            String m = message(Level.DEBUG, format, supplied(arguments));
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        }
+    }
+
+    public void info(String format, boolean arg) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.BOOLEAN, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, char arg) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.CHAR, arg);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, int arg) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.INT, arg);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, long arg) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.LONG, arg);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, float arg) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.FLOAT, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, double arg) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.DOUBLE, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, Object arg1, boolean arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arg1, 0, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, Object arg1, char arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arg1, 0, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, Object arg1, int arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arg1, 0, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, Object arg1, long arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arg1, 0, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, Object arg1, float arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arg1, 0, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, Object arg1, double arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, arg1, 0, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, boolean arg1, Object arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.BOOLEAN, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, boolean arg1, boolean arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, boolean arg1, char arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, boolean arg1, int arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, boolean arg1, long arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, boolean arg1, float arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, boolean arg1, double arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, char arg1, Object arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.CHAR, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, char arg1, boolean arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.CHAR, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, char arg1, char arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.CHAR, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, char arg1, int arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.CHAR, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, char arg1, long arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.CHAR, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, char arg1, float arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.CHAR, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, char arg1, double arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.CHAR, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, int arg1, Object arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.INT, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, int arg1, boolean arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.INT, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, int arg1, char arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.INT, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, int arg1, int arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.INT, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, int arg1, long arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.INT, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, int arg1, float arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.INT, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, int arg1, double arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.INT, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, long arg1, Object arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.LONG, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, long arg1, boolean arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.LONG, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, long arg1, char arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.LONG, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, long arg1, int arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.LONG, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, long arg1, long arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.LONG, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, long arg1, float arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.LONG, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, long arg1, double arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.LONG, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, float arg1, Object arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.FLOAT, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, float arg1, boolean arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, float arg1, char arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, float arg1, int arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, float arg1, long arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, float arg1, float arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, float arg1, double arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, double arg1, Object arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.DOUBLE, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, double arg1, boolean arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, double arg1, char arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, double arg1, int arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, double arg1, long arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, double arg1, float arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, double arg1, double arg2) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, Supplier<?> arg) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, supplied(arg));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void info(String format, Supplier<?>... arguments) {
+        if(counted(Level.INFO, isInfoEnabled())) {
+            String m = message(Level.INFO, format, supplied(arguments));
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+    }
+
+    public void warn(String format, boolean arg) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.BOOLEAN, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, char arg) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.CHAR, arg);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, int arg) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.INT, arg);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, long arg) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.LONG, arg);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, float arg) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.FLOAT, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, double arg) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.DOUBLE, Primitive.bits(arg));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, Object arg1, boolean arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arg1, 0, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, Object arg1, char arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arg1, 0, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, Object arg1, int arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arg1, 0, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, Object arg1, long arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arg1, 0, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, Object arg1, float arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arg1, 0, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, Object arg1, double arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, arg1, 0, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, boolean arg1, Object arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.BOOLEAN, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, boolean arg1, boolean arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, boolean arg1, char arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, boolean arg1, int arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, boolean arg1, long arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, boolean arg1, float arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, boolean arg1, double arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, char arg1, Object arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.CHAR, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, char arg1, boolean arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.CHAR, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, char arg1, char arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.CHAR, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, char arg1, int arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.CHAR, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, char arg1, long arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.CHAR, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, char arg1, float arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.CHAR, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, char arg1, double arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.CHAR, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, int arg1, Object arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.INT, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, int arg1, boolean arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.INT, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, int arg1, char arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.INT, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, int arg1, int arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.INT, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, int arg1, long arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.INT, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, int arg1, float arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.INT, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, int arg1, double arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.INT, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, long arg1, Object arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.LONG, arg1, arg2, 0);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, long arg1, boolean arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.LONG, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, long arg1, char arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.LONG, arg1, Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, long arg1, int arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.LONG, arg1, Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, long arg1, long arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.LONG, arg1, Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, long arg1, float arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.LONG, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, long arg1, double arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.LONG, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, float arg1, Object arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.FLOAT, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, float arg1, boolean arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, float arg1, char arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, float arg1, int arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, float arg1, long arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, float arg1, float arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, float arg1, double arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, double arg1, Object arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.DOUBLE, Primitive.bits(arg1), arg2, 0);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, double arg1, boolean arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, double arg1, char arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.CHAR, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, double arg1, int arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.INT, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, double arg1, long arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.LONG, arg2);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, double arg1, float arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, double arg1, double arg2) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, Supplier<?> arg) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, supplied(arg));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void warn(String format, Supplier<?>... arguments) {
+        if(counted(Level.WARN, isWarnEnabled())) {
+            String m = message(Level.WARN, format, supplied(arguments));
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+    }
+
+    public void error(String format, boolean arg) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.BOOLEAN, Primitive.bits(arg)));
+        }
+    }
+
+    public void error(String format, char arg) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.CHAR, arg));
+        }
+    }
+
+    public void error(String format, int arg) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.INT, arg));
+        }
+    }
+
+    public void error(String format, long arg) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.LONG, arg));
+        }
+    }
+
+    public void error(String format, float arg) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.FLOAT, Primitive.bits(arg)));
+        }
+    }
+
+    public void error(String format, double arg) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.DOUBLE, Primitive.bits(arg)));
+        }
+    }
+
+    public void error(String format, Object arg1, boolean arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, arg1, 0, Primitive.BOOLEAN, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, Object arg1, char arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, arg1, 0, Primitive.CHAR, arg2));
+        }
+    }
+
+    public void error(String format, Object arg1, int arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, arg1, 0, Primitive.INT, arg2));
+        }
+    }
+
+    public void error(String format, Object arg1, long arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, arg1, 0, Primitive.LONG, arg2));
+        }
+    }
+
+    public void error(String format, Object arg1, float arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, arg1, 0, Primitive.FLOAT, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, Object arg1, double arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, arg1, 0, Primitive.DOUBLE, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, boolean arg1, Object arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.BOOLEAN, Primitive.bits(arg1), arg2, 0));
+        }
+    }
+
+    public void error(String format, boolean arg1, boolean arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, boolean arg1, char arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.CHAR, arg2));
+        }
+    }
+
+    public void error(String format, boolean arg1, int arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.INT, arg2));
+        }
+    }
+
+    public void error(String format, boolean arg1, long arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.LONG, arg2));
+        }
+    }
+
+    public void error(String format, boolean arg1, float arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, boolean arg1, double arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, char arg1, Object arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.CHAR, arg1, arg2, 0));
+        }
+    }
+
+    public void error(String format, char arg1, boolean arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.CHAR, arg1, Primitive.BOOLEAN, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, char arg1, char arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.CHAR, arg1, Primitive.CHAR, arg2));
+        }
+    }
+
+    public void error(String format, char arg1, int arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.CHAR, arg1, Primitive.INT, arg2));
+        }
+    }
+
+    public void error(String format, char arg1, long arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.CHAR, arg1, Primitive.LONG, arg2));
+        }
+    }
+
+    public void error(String format, char arg1, float arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.CHAR, arg1, Primitive.FLOAT, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, char arg1, double arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.CHAR, arg1, Primitive.DOUBLE, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, int arg1, Object arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.INT, arg1, arg2, 0));
+        }
+    }
+
+    public void error(String format, int arg1, boolean arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.INT, arg1, Primitive.BOOLEAN, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, int arg1, char arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.INT, arg1, Primitive.CHAR, arg2));
+        }
+    }
+
+    public void error(String format, int arg1, int arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.INT, arg1, Primitive.INT, arg2));
+        }
+    }
+
+    public void error(String format, int arg1, long arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.INT, arg1, Primitive.LONG, arg2));
+        }
+    }
+
+    public void error(String format, int arg1, float arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.INT, arg1, Primitive.FLOAT, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, int arg1, double arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.INT, arg1, Primitive.DOUBLE, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, long arg1, Object arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.LONG, arg1, arg2, 0));
+        }
+    }
+
+    public void error(String format, long arg1, boolean arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.LONG, arg1, Primitive.BOOLEAN, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, long arg1, char arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.LONG, arg1, Primitive.CHAR, arg2));
+        }
+    }
+
+    public void error(String format, long arg1, int arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.LONG, arg1, Primitive.INT, arg2));
+        }
+    }
+
+    public void error(String format, long arg1, long arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.LONG, arg1, Primitive.LONG, arg2));
+        }
+    }
+
+    public void error(String format, long arg1, float arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.LONG, arg1, Primitive.FLOAT, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, long arg1, double arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.LONG, arg1, Primitive.DOUBLE, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, float arg1, Object arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.FLOAT, Primitive.bits(arg1), arg2, 0));
+        }
+    }
+
+    public void error(String format, float arg1, boolean arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, float arg1, char arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.CHAR, arg2));
+        }
+    }
+
+    public void error(String format, float arg1, int arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.INT, arg2));
+        }
+    }
+
+    public void error(String format, float arg1, long arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.LONG, arg2));
+        }
+    }
+
+    public void error(String format, float arg1, float arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, float arg1, double arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.FLOAT, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, double arg1, Object arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.DOUBLE, Primitive.bits(arg1), arg2, 0));
+        }
+    }
+
+    public void error(String format, double arg1, boolean arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, double arg1, char arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.CHAR, arg2));
+        }
+    }
+
+    public void error(String format, double arg1, int arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.INT, arg2));
+        }
+    }
+
+    public void error(String format, double arg1, long arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.LONG, arg2));
+        }
+    }
+
+    public void error(String format, double arg1, float arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, double arg1, double arg2) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2)));
+        }
+    }
+
+    public void error(String format, Supplier<?> arg) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, supplied(arg)));
+        }
+    }
+
+    public void error(String format, Supplier<?>... arguments) {
+        if(counted(Level.ERROR, isErrorEnabled())) {
+            failing();
+            _delegate.error(message(Level.ERROR, format, supplied(arguments)));
+        }
+    }
+
+    private final class TraceLogger extends SLL {
+        @Override public boolean isEnabled() {
+            return isTraceEnabled();
+        }
+
+        @Override Level level() {
+            return Level.TRACE;
+        }
+
+        @Override void log(String message) {
+            String m = tweak(message);
+            if (!LogScope.hold(_delegate, Level.TRACE, null, m)) _delegate.trace(m);
+        }
+
+        @Override void log(String message, Throwable t) {
+            failing();
+            _delegate.trace(tweak(message), t);
+        }
+    }
+
+    private final class DebugLogger extends SLL {
+        @Override public boolean isEnabled() {
+            return isDebugEnabled();
+        }
+
+        @Override Level level() {
+            return Level.DEBUG;
+        }
+
+        @Override void log(String message) {
+            String m = tweak(message);
+            if (!LogScope.hold(_delegate, Level.DEBUG, null, m)) _delegate.debug(m);
+        }
+
+        @Override void log(String message, Throwable t) {
+            failing();
+            _delegate.debug(tweak(message), t);
+        }
+    }
+
+    private final class InfoLogger extends SLL {
+        @Override public boolean isEnabled() {
+            return isInfoEnabled();
+        }
+
+        @Override Level level() {
+            return Level.INFO;
+        }
+
+        @Override void log(String message) {
+            String m = tweak(message);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+
+        @Override void log(String message, Throwable t) {
+            failing();
+            _delegate.info(tweak(message), t);
+        }
+    }
+
+    private final class WarnLogger extends SLL {
+        @Override public boolean isEnabled() {
+            return isWarnEnabled();
+        }
+
+        @Override Level level() {
+            return Level.WARN;
+        }
+
+        @Override void log(String message) {
+            String m = tweak(message);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+
+        @Override void log(String message, Throwable t) {
+            failing();
+            _delegate.warn(tweak(message), t);
+        }
+    }
+
+    private final class ErrorLogger extends SLL {
+        @Override public boolean isEnabled() {
+            return isErrorEnabled();
+        }
+
+        @Override Level level() {
+            return Level.ERROR;
+        }
+
+        @Override void log(String message) {
+            failing();
+            _delegate.error(tweak(message));
+        }
+
+        @Override void log(String message, Throwable t) {
+            failing();
+            _delegate.error(tweak(message), t);
+        }
+    }
+
+    private static final AnsiStyle COUT_STYLE = new AnsiStyle(ansi -> ansi);
+
+    private final class CoutLogger extends AnsiLogger {
+        CoutLogger() {
+            super(System.out);
+        }
+
+        @Override AnsiStyle style() {
+            return COUT_STYLE;
+        }
+
+        @Override boolean isSlf4jEnabled() {
+            return isInfoEnabled();
+        }
+
+        @Override void log(String message) {
+            String m = tweak(message);
+            if (!LogScope.hold(_delegate, Level.INFO, null, m)) _delegate.info(m);
+        }
+
+        @Override void log(String message, Throwable t) {
+            failing();
+            _delegate.info(tweak(message), t);
+        }
+    }
+
+    private static final AnsiStyle CWARN_STYLE = new AnsiStyle(ansi -> ansi.bold().fgBrightYellow());
+
+    private final class CwarnLogger extends AnsiLogger {
+        CwarnLogger() {
+            super(System.err);
+        }
+
+        @Override AnsiStyle style() {
+            return CWARN_STYLE;
+        }
+
+        @Override boolean isSlf4jEnabled() {
+            return isWarnEnabled();
+        }
+
+        @Override void log(String message) {
+            String m = tweak(message);
+            if (!LogScope.hold(_delegate, Level.WARN, null, m)) _delegate.warn(m);
+        }
+
+        @Override void log(String message, Throwable t) {
+            failing();
+            _delegate.warn(tweak(message), t);
+        }
+    }
+
+    private static final AnsiStyle CERR_STYLE = new AnsiStyle(ansi -> ansi.bold().fgBrightRed());
+
+    private final class CerrLogger extends AnsiLogger {
+        CerrLogger() {
+            super(System.err);
+        }
+
+        @Override AnsiStyle style() {
+            return CERR_STYLE;
+        }
+
+        @Override boolean isSlf4jEnabled() {
+            return isErrorEnabled();
+        }
+
+        @Override void log(String message) {
+            failing();
+            _delegate.error(tweak(message));
+        }
+
+        @Override void log(String message, Throwable t) {
+            failing();
+            _delegate.error(tweak(message), t);
+        }
+    }
+
 }
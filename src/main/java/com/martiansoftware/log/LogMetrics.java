@@ -0,0 +1,130 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.event.Level;
+
+/**
+ * A snapshot of the metrics collected for all Logs with a given name while
+ * metrics were enabled.  See Log.enableMetrics().
+ * 
+ * Getters are JavaBean-style so that snapshots can be published via JMX.
+ */
+public final class LogMetrics {
+
+    private final String _name;
+    private final long[] _calls, _suppressed; // indexed by Level.ordinal()
+    private final long _messageChars, _throwablesHandled, _handlerNanos, _consoleLines;
+    
+    LogMetrics(String name, long[] calls, long[] suppressed, long messageChars, long throwablesHandled, long handlerNanos, long consoleLines) {
+        _name = name;
+        _calls = calls;
+        _suppressed = suppressed;
+        _messageChars = messageChars;
+        _throwablesHandled = throwablesHandled;
+        _handlerNanos = handlerNanos;
+        _consoleLines = consoleLines;
+    }
+    
+    /**
+     * @return the logger name
+     */
+    public String getName() {
+        return _name;
+    }
+    
+    /**
+     * @return the number of log calls made at enabled levels
+     */
+    public long getCalls() {
+        return sum(_calls);
+    }
+    
+    /**
+     * @return the number of log calls made at disabled levels
+     */
+    public long getSuppressed() {
+        return sum(_suppressed);
+    }
+    
+    public long getCalls(Level level) {
+        return _calls[level.ordinal()];
+    }
+    
+    public long getSuppressed(Level level) {
+        return _suppressed[level.ordinal()];
+    }
+    
+    /**
+     * @return enabled log calls by level name
+     */
+    public Map<String, Long> getCallsByLevel() {
+        return byLevel(_calls);
+    }
+    
+    /**
+     * @return disabled log calls by level name
+     */
+    public Map<String, Long> getSuppressedByLevel() {
+        return byLevel(_suppressed);
+    }
+    
+    /**
+     * @return the total length in chars of all messages passed to slf4j
+     */
+    public long getMessageChars() {
+        return _messageChars;
+    }
+    
+    /**
+     * @return the number of Throwables passed to throwable handlers
+     */
+    public long getThrowablesHandled() {
+        return _throwablesHandled;
+    }
+    
+    /**
+     * @return the total time spent in throwable handlers, in nanoseconds
+     */
+    public long getHandlerNanos() {
+        return _handlerNanos;
+    }
+    
+    /**
+     * @return the number of lines written to the console via cout, cwarn, and cerr
+     */
+    public long getConsoleLines() {
+        return _consoleLines;
+    }
+    
+    private static long sum(long[] values) {
+        long result = 0;
+        for (long v : values) result += v;
+        return result;
+    }
+    
+    private static Map<String, Long> byLevel(long[] values) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Level level : Level.values()) result.put(level.toString(), values[level.ordinal()]);
+        return result;
+    }
+    
+    @Override public String toString() {
+        return String.format("%s: calls=%d suppressed=%d messageChars=%d throwablesHandled=%d handlerNanos=%d consoleLines=%d",
+                                _name, getCalls(), getSuppressed(), _messageChars, _throwablesHandled, _handlerNanos, _consoleLines);
+    }
+}
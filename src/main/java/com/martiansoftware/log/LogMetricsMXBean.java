@@ -0,0 +1,36 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.List;
+
+/**
+ * JMX interface to the per-logger metrics collected when enabled via
+ * Log.enableMetrics().  Registered as com.martiansoftware.log:type=LogMetrics
+ * the first time metrics are enabled.
+ */
+public interface LogMetricsMXBean {
+    
+    public boolean isEnabled();
+    
+    public void setEnabled(boolean enabled);
+    
+    /**
+     * @return metrics for each logger name, busiest first
+     */
+    public List<LogMetrics> getLoggers();
+    
+    public void reset();
+}
@@ -0,0 +1,177 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+/**
+ * A request-scoped buffer for log output, obtained via Log.bufferScope() and
+ * closed via try-with-resources.  While a scope is open on a thread, enabled
+ * log calls below the scope's threshold level made on that thread (via any
+ * Log) are held in the scope instead of going to the backend.  If an error is
+ * logged or a Throwable is handled on the thread while the scope is open, the
+ * held messages are written to their original loggers, in order, and later
+ * messages in the scope go straight to the backend.  If the scope closes
+ * without a failure, the held messages are discarded.
+ * 
+ * A scope holds at most a fixed number of messages; beyond that the oldest
+ * are dropped, and a flush notes how many were lost.  Scopes are pooled per
+ * thread, and storage that grew large for one request is trimmed when the
+ * scope closes.  Opening a scope while one is already open on the thread
+ * joins the open one, which keeps its threshold and limit and stays open until
+ * the outermost close().
+ */
+public final class LogScope implements AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 32;
+    private static final int RETAINED_CAPACITY = 256; // kept across requests
+    
+    private static final ThreadLocal<LogScope> SCOPE = ThreadLocal.withInitial(LogScope::new);
+    private static final AtomicInteger _open = new AtomicInteger(); // open scopes on all threads
+    
+    private int _depth = 0;
+    private int _threshold;
+    private int _maxMessages;
+    private boolean _failed;
+    
+    // held messages, as a ring starting at _start
+    private Logger[] _loggers = new Logger[INITIAL_CAPACITY];
+    private Level[] _levels = new Level[INITIAL_CAPACITY];
+    private Marker[] _markers = new Marker[INITIAL_CAPACITY];
+    private String[] _messages = new String[INITIAL_CAPACITY];
+    private int _start = 0, _size = 0;
+    private long _dropped = 0;
+    
+    private LogScope() {}
+    
+    static LogScope open(Level threshold, int maxMessages) {
+        if (maxMessages < 1) throw new IllegalArgumentException("maxMessages must be at least 1");
+        LogScope scope = SCOPE.get();
+        if (scope._depth++ == 0) {
+            scope._threshold = threshold.toInt();
+            scope._maxMessages = maxMessages;
+            scope._failed = false;
+            _open.incrementAndGet();
+        }
+        return scope;
+    }
+    
+    /**
+     * Discards any held messages if this is the outermost close() on this
+     * thread.  A no-op if called from any other thread.
+     */
+    @Override
+    public void close() {
+        if (SCOPE.get() != this || _depth == 0) return;
+        if (--_depth == 0) {
+            _open.decrementAndGet();
+            clear();
+            if (_loggers.length > RETAINED_CAPACITY) resize(RETAINED_CAPACITY);
+        }
+    }
+    
+    /**
+     * Holds a message if a scope is open on this thread, has not failed, and
+     * the level is below its threshold.
+     * 
+     * @return true if the message was held, false if the caller should log it
+     */
+    static boolean hold(Logger logger, Level level, Marker marker, String message) {
+        if (_open.get() == 0) return false;
+        LogScope scope = SCOPE.get();
+        if (scope._depth == 0 || scope._failed || level.toInt() >= scope._threshold) return false;
+        scope.add(logger, level, marker, message);
+        return true;
+    }
+    
+    /**
+     * Called when an error is logged or a Throwable is handled: writes out
+     * anything held by this thread's open scope and stops holding messages
+     * for the rest of it.
+     */
+    static void fail() {
+        if (_open.get() == 0) return;
+        LogScope scope = SCOPE.get();
+        if (scope._depth == 0 || scope._failed) return;
+        scope._failed = true;
+        scope.flush();
+    }
+    
+    private void add(Logger logger, Level level, Marker marker, String message) {
+        if (_size == _maxMessages) { // full; drop the oldest
+            _loggers[_start] = null;
+            _markers[_start] = null;
+            _messages[_start] = null;
+            _start = (_start + 1) % _loggers.length;
+            --_size;
+            ++_dropped;
+        }
+        if (_size == _loggers.length) resize(Math.min(_maxMessages, _loggers.length * 2));
+        int i = (_start + _size++) % _loggers.length;
+        _loggers[i] = logger;
+        _levels[i] = level;
+        _markers[i] = marker;
+        _messages[i] = message;
+    }
+    
+    private void flush() {
+        if (_dropped > 0) _loggers[_start].warn("{} earlier messages in this log scope were dropped", _dropped);
+        for (int n = 0; n < _size; ++n) {
+            int i = (_start + n) % _loggers.length;
+            write(_loggers[i], _levels[i], _markers[i], _messages[i]);
+        }
+        clear();
+    }
+    
+    private static void write(Logger logger, Level level, Marker marker, String message) {
+        switch (level) {
+            case TRACE: if (marker == null) logger.trace(message); else logger.trace(marker, message); break;
+            case DEBUG: if (marker == null) logger.debug(message); else logger.debug(marker, message); break;
+            case INFO: if (marker == null) logger.info(message); else logger.info(marker, message); break;
+            case WARN: if (marker == null) logger.warn(message); else logger.warn(marker, message); break;
+            default: if (marker == null) logger.error(message); else logger.error(marker, message); break;
+        }
+    }
+    
+    // drops all held messages, releasing their references
+    private void clear() {
+        for (int n = 0; n < _size; ++n) {
+            int i = (_start + n) % _loggers.length;
+            _loggers[i] = null;
+            _levels[i] = null;
+            _markers[i] = null;
+            _messages[i] = null;
+        }
+        _start = _size = 0;
+        _dropped = 0;
+    }
+    
+    // resizes storage to the specified capacity (at least _size), unrolling the ring
+    private void resize(int capacity) {
+        _loggers = unrolled(_loggers, new Logger[capacity]);
+        _levels = unrolled(_levels, new Level[capacity]);
+        _markers = unrolled(_markers, new Marker[capacity]);
+        _messages = unrolled(_messages, new String[capacity]);
+        _start = 0;
+    }
+    
+    private <T> T[] unrolled(T[] from, T[] to) {
+        for (int n = 0; n < _size; ++n) to[n] = from[(_start + n) % from.length];
+        return to;
+    }
+}
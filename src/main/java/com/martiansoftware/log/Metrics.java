@@ -0,0 +1,170 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.ObjectName;
+import org.slf4j.event.Level;
+
+/**
+ * Optional per-logger-name counters of logging activity.  While disabled
+ * (the default), the only cost to logging is a check of a volatile boolean.
+ * Can be enabled at runtime via Log.enableMetrics(), via JMX once the MBean is
+ * registered, or at startup by setting the com.martiansoftware.log.metrics
+ * system property to true.
+ */
+final class Metrics {
+
+    static final String OBJECT_NAME = "com.martiansoftware.log:type=LogMetrics";
+    private static final Level[] LEVELS = Level.values();
+    
+    private static final Map<String, Counters> _counters = new ConcurrentHashMap<>();
+    private static volatile boolean _enabled = false;
+    private static boolean _registered = false; // guarded by class lock
+    
+    static {
+        if (Boolean.getBoolean("com.martiansoftware.log.metrics")) setEnabled(true);
+    }
+    
+    private Metrics() {}
+    
+    /**
+     * The counters for all Logs with the same name.  LongAdders keep
+     * contended counting cheap.
+     */
+    static final class Counters {
+        private final String _name;
+        private final LongAdder[] _calls = adders(LEVELS.length);
+        private final LongAdder[] _suppressed = adders(LEVELS.length);
+        private final LongAdder _messageChars = new LongAdder();
+        private final LongAdder _throwablesHandled = new LongAdder();
+        private final LongAdder _handlerNanos = new LongAdder();
+        private final LongAdder _consoleLines = new LongAdder();
+        
+        private Counters(String name) {
+            _name = name;
+        }
+        
+        void call(Level level, boolean enabled) {
+            (enabled ? _calls : _suppressed)[level.ordinal()].increment();
+        }
+        
+        void messageChars(int chars) {
+            _messageChars.add(chars);
+        }
+        
+        void throwableHandled(long handlerNanos) {
+            _throwablesHandled.increment();
+            _handlerNanos.add(handlerNanos);
+        }
+        
+        void consoleLine() {
+            _consoleLines.increment();
+        }
+        
+        LogMetrics snapshot() {
+            return new LogMetrics(_name, sums(_calls), sums(_suppressed), _messageChars.sum(),
+                                    _throwablesHandled.sum(), _handlerNanos.sum(), _consoleLines.sum());
+        }
+        
+        void reset() {
+            for (LongAdder a : _calls) a.reset();
+            for (LongAdder a : _suppressed) a.reset();
+            _messageChars.reset();
+            _throwablesHandled.reset();
+            _handlerNanos.reset();
+            _consoleLines.reset();
+        }
+    }
+    
+    private static LongAdder[] adders(int n) {
+        LongAdder[] result = new LongAdder[n];
+        for (int i = 0; i < n; ++i) result[i] = new LongAdder();
+        return result;
+    }
+    
+    private static long[] sums(LongAdder[] adders) {
+        long[] result = new long[adders.length];
+        for (int i = 0; i < adders.length; ++i) result[i] = adders[i].sum();
+        return result;
+    }
+    
+    static boolean isEnabled() {
+        return _enabled;
+    }
+    
+    static void setEnabled(boolean enabled) {
+        if (enabled) register();
+        _enabled = enabled;
+    }
+    
+    static Counters forName(String name) {
+        return _counters.computeIfAbsent(name, Counters::new);
+    }
+    
+    /**
+     * Returns a snapshot of the counters for every logger name that has been
+     * used while metrics were enabled, busiest (by number of calls) first
+     */
+    static List<LogMetrics> snapshot() {
+        List<LogMetrics> result = new ArrayList<>(_counters.size());
+        for (Counters c : _counters.values()) result.add(c.snapshot());
+        result.sort(Comparator.comparingLong((LogMetrics m) -> m.getCalls()).reversed()
+                        .thenComparing(LogMetrics::getName));
+        return result;
+    }
+    
+    static void reset() {
+        for (Counters c : _counters.values()) c.reset();
+    }
+    
+    private static synchronized void register() {
+        if (_registered) return;
+        _registered = true;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // registered by another copy of this library (e.g. in another classloader)
+        } catch (Exception e) {
+            System.err.format("Unable to register %s:%n", OBJECT_NAME);
+            e.printStackTrace();
+        }
+    }
+    
+    private static class MXBean implements LogMetricsMXBean {
+        @Override public boolean isEnabled() {
+            return Metrics.isEnabled();
+        }
+        
+        @Override public void setEnabled(boolean enabled) {
+            Metrics.setEnabled(enabled);
+        }
+        
+        @Override public List<LogMetrics> getLoggers() {
+            return snapshot();
+        }
+        
+        @Override public void reset() {
+            Metrics.reset();
+        }
+    }
+}
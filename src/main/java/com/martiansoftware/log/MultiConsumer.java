@@ -14,37 +14,75 @@ package com.martiansoftware.log;
 //   See the License for the specific language governing permissions and
 //   limitations under the License.
 
-import java.util.Set;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 /**
  * Helper class for distributing events to multiple consumers.
  * 
+ * Handlers are held in an immutable array that is replaced (copy-on-write)
+ * whenever a handler is added or removed, so dispatch never takes a lock and
+ * a slow handler on one thread does not hold up any other thread.  A handler
+ * that throws is reported to stderr and does not prevent the remaining
+ * handlers from running.
+ * 
  * @author <a href="http://martylamb.com">Marty Lamb</a>
  */
 class MultiConsumer<T> implements Consumer<T> {
 
-    private final Set<Consumer<T>> _handlers = new java.util.LinkedHashSet<>();
-    private final Object _lock = new Object();
+    private static final Consumer<?>[] NO_HANDLERS = new Consumer<?>[0];
+    
+    private volatile Consumer<T>[] _handlers = noHandlers();
+    private final Object _lock = new Object(); // serializes writers only
     
     public MultiConsumer<T> add(Consumer<T> t) {
         synchronized(_lock) {
-            _handlers.add(t);
+            Consumer<T>[] handlers = _handlers;
+            if (indexOf(handlers, t) == -1) {
+                Consumer<T>[] updated = Arrays.copyOf(handlers, handlers.length + 1);
+                updated[handlers.length] = t;
+                _handlers = updated;
+            }
             return this;
         }
     }
     
     public MultiConsumer<T> remove(Consumer<T> t) {
         synchronized(_lock) {
-            _handlers.remove(t);
+            Consumer<T>[] handlers = _handlers;
+            int i = indexOf(handlers, t);
+            if (i != -1) {
+                Consumer<T>[] updated = Arrays.copyOf(handlers, handlers.length - 1);
+                System.arraycopy(handlers, i + 1, updated, i, updated.length - i);
+                _handlers = updated;
+            }
             return this;
         }
     }
     
+    // the shared empty array; being empty, it holds no Consumer of the wrong type
+    @SuppressWarnings("unchecked")
+    private static <T> Consumer<T>[] noHandlers() {
+        return (Consumer<T>[]) NO_HANDLERS;
+    }
+    
+    private static int indexOf(Consumer<?>[] handlers, Object t) {
+        for (int i = 0; i < handlers.length; ++i) {
+            if (handlers[i].equals(t)) return i;
+        }
+        return -1;
+    }
+    
     @Override
     public void accept(T t) {
-        synchronized(_lock) {
-            _handlers.forEach(h -> h.accept(t));
+        Consumer<T>[] handlers = _handlers;
+        for (Consumer<T> h : handlers) {
+            try {
+                h.accept(t);
+            } catch (Exception e) {
+                System.err.format("Handler %s failed:%n", h);
+                e.printStackTrace();
+            }
         }
     }
 }
@@ -0,0 +1,44 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+/**
+ * What an asynchronous component of this library does when its bounded queue
+ * is full.
+ */
+public enum OverflowPolicy {
+    
+    /**
+     * The calling thread waits until there is room in the queue.
+     */
+    BLOCK,
+    
+    /**
+     * The new item is discarded.
+     */
+    DROP_NEWEST,
+    
+    /**
+     * The oldest queued item is discarded to make room for the new one.
+     */
+    DROP_OLDEST,
+    
+    /**
+     * One in every N overflowing items displaces the oldest queued item and
+     * the rest are discarded, so a sample of a sustained burst still gets
+     * through without the queue ever growing.
+     */
+    SAMPLE
+}
@@ -0,0 +1,74 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+/**
+ * Tags for primitive message arguments, so that the primitive overloads of
+ * Log's and SingleLevelLogger's methods can pass their arguments along
+ * without boxing them.  Such an argument travels as a pair: the tag in place
+ * of the argument object, and the value's bits in an accompanying long (as
+ * produced by bits() for booleans, floats and doubles, and by widening for
+ * the integral types).  An argument that is not a Primitive is a plain
+ * Object argument and the accompanying long is ignored.
+ * 
+ * Each tag renders its value exactly as the corresponding boxed type would,
+ * so a char is written as a character rather than its code, a float is
+ * written as Float.toString() would, and a byte or short keeps its own width
+ * under %x.
+ */
+enum Primitive {
+    BOOLEAN, CHAR, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE;
+    
+    static long bits(boolean value) {
+        return value ? 1 : 0;
+    }
+    
+    static long bits(float value) {
+        return Float.floatToRawIntBits(value);
+    }
+    
+    static long bits(double value) {
+        return Double.doubleToRawLongBits(value);
+    }
+    
+    // appends the value exactly as String.valueOf() would render it boxed
+    void append(StringBuilder sb, long bits) {
+        switch (this) {
+            case BOOLEAN: sb.append(bits != 0); break;
+            case CHAR: sb.append((char) bits); break;
+            case FLOAT: sb.append(Float.intBitsToFloat((int) bits)); break;
+            case DOUBLE: sb.append(Double.longBitsToDouble(bits)); break;
+            default: sb.append(bits); break;
+        }
+    }
+    
+    Object box(long bits) {
+        switch (this) {
+            case BOOLEAN: return bits != 0;
+            case CHAR: return (char) bits;
+            case BYTE: return (byte) bits;
+            case SHORT: return (short) bits;
+            case INT: return (int) bits;
+            case LONG: return bits;
+            case FLOAT: return Float.intBitsToFloat((int) bits);
+            default: return Double.longBitsToDouble(bits);
+        }
+    }
+    
+    // returns arg, boxing it first if it is a Primitive
+    static Object boxed(Object arg, long bits) {
+        return arg instanceof Primitive ? ((Primitive) arg).box(bits) : arg;
+    }
+}
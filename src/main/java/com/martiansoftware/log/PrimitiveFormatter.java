@@ -0,0 +1,36 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+/**
+ * Implemented by SingleLevelLoggers that handle the fixed-arity overloads of
+ * SingleLevelLogger.format() themselves, receiving their arguments without
+ * boxing (see Primitive).  Other SingleLevelLoggers get those calls as
+ * format(String, Object...), so existing implementations see no difference.
+ */
+interface PrimitiveFormatter {
+    
+    SingleLevelLogger formatPrimitives(String format, int argc, Object arg1, long bits1, Object arg2, long bits2);
+    
+    static SingleLevelLogger format(SingleLevelLogger sll, String format, int argc, Object arg1, long bits1, Object arg2, long bits2) {
+        if (sll instanceof PrimitiveFormatter) return ((PrimitiveFormatter) sll).formatPrimitives(format, argc, arg1, bits1, arg2, bits2);
+        if (sll.isEnabled()) {
+            sll.format(format, argc == 1
+                    ? new Object[] { Primitive.boxed(arg1, bits1) }
+                    : new Object[] { Primitive.boxed(arg1, bits1), Primitive.boxed(arg2, bits2) });
+        }
+        return sll;
+    }
+}
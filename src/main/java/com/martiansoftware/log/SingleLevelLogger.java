@@ -14,6 +14,7 @@ package com.martiansoftware.log;
 //   See the License for the specific language governing permissions and
 //   limitations under the License.
 
+import java.time.Duration;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -40,14 +41,15 @@ public interface SingleLevelLogger {
     }
     
     public default SingleLevelLogger format(String format, Object... args) {
-        if (isEnabled()) print(String.format(format, args));
+        if (isEnabled()) print(FastFormatter.printf(format, args));
         return this;
     }
     
     public SingleLevelLogger throwable(Throwable t, String msg, Object... args);
     
     public default SingleLevelLogger throwable(Throwable t) {
-        return throwable(t, Log.defaultMessageForThrowable(t));
+        if (isEnabled()) throwable(t, "%s", Log.defaultMessageForThrowable(t));
+        return this;
     }
     
     public default SingleLevelLogger print(Stream<String> messages) {
@@ -55,5 +57,459 @@ public interface SingleLevelLogger {
         return this;
     }
     
+    /**
+     * Prints the messages in a Stream in multi-line batches rather than one
+     * at a time: consecutive messages are joined with line separators into
+     * chunks of at most maxLines lines and maxChars chars (a single message
+     * longer than maxChars gets a chunk to itself), and each chunk is printed
+     * as a single message.  This is much cheaper than print(Stream) for large
+     * streams, at the cost of each chunk appearing as one log event.
+     * 
+     * @param messages the messages to print, in order
+     * @param maxLines the maximum number of messages per chunk
+     * @param maxChars the maximum length of a chunk
+     * @return this SingleLevelLogger
+     */
+    public default SingleLevelLogger print(Stream<String> messages, int maxLines, int maxChars) {
+        if (isEnabled()) {
+            LineBatcher batcher = new LineBatcher(this, maxLines, maxChars);
+            messages.forEachOrdered(batcher);
+            batcher.flush();
+        }
+        return this;
+    }
+    
     public StopwatchLog stopwatch(String name);
+    
+    /**
+     * Starts a structured message, to which keys and values can be added via
+     * with() before logging it via log().  The message is encoded as JSON or
+     * logfmt (see Log.setKeyValueFormat()) and printed to this
+     * SingleLevelLogger.  If this SingleLevelLogger is disabled, the returned
+     * KeyValues does nothing.
+     * 
+     * @param message the message, logged under the key "msg"
+     * @return a KeyValues to add keys and values to
+     */
+    public default KeyValues kv(String message) {
+        return isEnabled() ? KeyValues.start(this, message) : KeyValues.DISABLED;
+    }
+    
+    /**
+     * Starts a lightweight Stopwatch that logs its elapsed time (and any
+     * laps) to this SingleLevelLogger when closed.  Unlike stopwatch(), this
+     * does not create a Log, and does no formatting if this SingleLevelLogger
+     * is disabled.
+     * 
+     * @param name the name of the Stopwatch
+     * @return a running Stopwatch
+     */
+    public default Stopwatch timer(String name) {
+        return Stopwatch.start(name, this);
+    }
+    
+    /**
+     * Returns a view of this SingleLevelLogger that passes through at most
+     * the specified number of messages per period and discards the rest.  When
+     * a new period begins, the number of messages discarded in the previous
+     * one (if any) is logged.
+     * 
+     * @param messages the maximum number of messages per period
+     * @param per the period
+     * @return a rate-limited view of this SingleLevelLogger
+     */
+    public default SingleLevelLogger rateLimited(int messages, Duration per) {
+        return new GatedLogger(this, new GatedLogger.RateLimit(messages, per));
+    }
+    
+    /**
+     * Returns a view of this SingleLevelLogger that passes through each
+     * message with the specified probability and discards the rest.
+     * 
+     * @param probability the probability (0.0 to 1.0) that a message is logged
+     * @return a sampled view of this SingleLevelLogger
+     */
+    public default SingleLevelLogger sampled(double probability) {
+        return new GatedLogger(this, new GatedLogger.Sample(probability));
+    }
+    
+    /**
+     * Returns a view of this SingleLevelLogger that passes through every nth
+     * message and discards the rest.  Counting is striped across threads, so
+     * under concurrent use this is approximately (not exactly) every nth.
+     * 
+     * @param n log one in every n messages
+     * @return a view of this SingleLevelLogger logging every nth message
+     */
+    public default SingleLevelLogger everyNth(int n) {
+        return new GatedLogger(this, new GatedLogger.EveryNth(n));
+    }
+    
+// -----------------------------------------------------------------------------
+// fixed-arity versions of format(), which take primitives without boxing them
+// and only box (or allocate a varargs array) if the level is enabled and this
+// SingleLevelLogger cannot format them directly
+    
+// ## THE FOLLOWING CODE IS GENERATED BY scripts/updateLogJava
+// ## BEGIN GENERATED CODE - DO NOT EDIT BELOW THIS LINE ##
+    public default SingleLevelLogger format(String format, Object arg) {
+        return PrimitiveFormatter.format(this, format, 1, arg, 0, null, 0);
+    }
+
+    public default SingleLevelLogger format(String format, boolean arg) {
+        return PrimitiveFormatter.format(this, format, 1, Primitive.BOOLEAN, Primitive.bits(arg), null, 0);
+    }
+
+    public default SingleLevelLogger format(String format, char arg) {
+        return PrimitiveFormatter.format(this, format, 1, Primitive.CHAR, arg, null, 0);
+    }
+
+    public default SingleLevelLogger format(String format, byte arg) {
+        return PrimitiveFormatter.format(this, format, 1, Primitive.BYTE, arg, null, 0);
+    }
+
+    public default SingleLevelLogger format(String format, short arg) {
+        return PrimitiveFormatter.format(this, format, 1, Primitive.SHORT, arg, null, 0);
+    }
+
+    public default SingleLevelLogger format(String format, int arg) {
+        return PrimitiveFormatter.format(this, format, 1, Primitive.INT, arg, null, 0);
+    }
+
+    public default SingleLevelLogger format(String format, long arg) {
+        return PrimitiveFormatter.format(this, format, 1, Primitive.LONG, arg, null, 0);
+    }
+
+    public default SingleLevelLogger format(String format, float arg) {
+        return PrimitiveFormatter.format(this, format, 1, Primitive.FLOAT, Primitive.bits(arg), null, 0);
+    }
+
+    public default SingleLevelLogger format(String format, double arg) {
+        return PrimitiveFormatter.format(this, format, 1, Primitive.DOUBLE, Primitive.bits(arg), null, 0);
+    }
+
+    public default SingleLevelLogger format(String format, Object arg1, Object arg2) {
+        return PrimitiveFormatter.format(this, format, 2, arg1, 0, arg2, 0);
+    }
+
+    public default SingleLevelLogger format(String format, Object arg1, boolean arg2) {
+        return PrimitiveFormatter.format(this, format, 2, arg1, 0, Primitive.BOOLEAN, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, Object arg1, char arg2) {
+        return PrimitiveFormatter.format(this, format, 2, arg1, 0, Primitive.CHAR, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, Object arg1, byte arg2) {
+        return PrimitiveFormatter.format(this, format, 2, arg1, 0, Primitive.BYTE, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, Object arg1, short arg2) {
+        return PrimitiveFormatter.format(this, format, 2, arg1, 0, Primitive.SHORT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, Object arg1, int arg2) {
+        return PrimitiveFormatter.format(this, format, 2, arg1, 0, Primitive.INT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, Object arg1, long arg2) {
+        return PrimitiveFormatter.format(this, format, 2, arg1, 0, Primitive.LONG, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, Object arg1, float arg2) {
+        return PrimitiveFormatter.format(this, format, 2, arg1, 0, Primitive.FLOAT, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, Object arg1, double arg2) {
+        return PrimitiveFormatter.format(this, format, 2, arg1, 0, Primitive.DOUBLE, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, boolean arg1, Object arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BOOLEAN, Primitive.bits(arg1), arg2, 0);
+    }
+
+    public default SingleLevelLogger format(String format, boolean arg1, boolean arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, boolean arg1, char arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.CHAR, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, boolean arg1, byte arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.BYTE, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, boolean arg1, short arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.SHORT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, boolean arg1, int arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.INT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, boolean arg1, long arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.LONG, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, boolean arg1, float arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, boolean arg1, double arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BOOLEAN, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, char arg1, Object arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.CHAR, arg1, arg2, 0);
+    }
+
+    public default SingleLevelLogger format(String format, char arg1, boolean arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.CHAR, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, char arg1, char arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.CHAR, arg1, Primitive.CHAR, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, char arg1, byte arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.CHAR, arg1, Primitive.BYTE, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, char arg1, short arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.CHAR, arg1, Primitive.SHORT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, char arg1, int arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.CHAR, arg1, Primitive.INT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, char arg1, long arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.CHAR, arg1, Primitive.LONG, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, char arg1, float arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.CHAR, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, char arg1, double arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.CHAR, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, byte arg1, Object arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BYTE, arg1, arg2, 0);
+    }
+
+    public default SingleLevelLogger format(String format, byte arg1, boolean arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BYTE, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, byte arg1, char arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BYTE, arg1, Primitive.CHAR, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, byte arg1, byte arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BYTE, arg1, Primitive.BYTE, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, byte arg1, short arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BYTE, arg1, Primitive.SHORT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, byte arg1, int arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BYTE, arg1, Primitive.INT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, byte arg1, long arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BYTE, arg1, Primitive.LONG, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, byte arg1, float arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BYTE, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, byte arg1, double arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.BYTE, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, short arg1, Object arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.SHORT, arg1, arg2, 0);
+    }
+
+    public default SingleLevelLogger format(String format, short arg1, boolean arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.SHORT, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, short arg1, char arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.SHORT, arg1, Primitive.CHAR, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, short arg1, byte arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.SHORT, arg1, Primitive.BYTE, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, short arg1, short arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.SHORT, arg1, Primitive.SHORT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, short arg1, int arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.SHORT, arg1, Primitive.INT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, short arg1, long arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.SHORT, arg1, Primitive.LONG, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, short arg1, float arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.SHORT, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, short arg1, double arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.SHORT, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, int arg1, Object arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.INT, arg1, arg2, 0);
+    }
+
+    public default SingleLevelLogger format(String format, int arg1, boolean arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.INT, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, int arg1, char arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.INT, arg1, Primitive.CHAR, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, int arg1, byte arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.INT, arg1, Primitive.BYTE, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, int arg1, short arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.INT, arg1, Primitive.SHORT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, int arg1, int arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.INT, arg1, Primitive.INT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, int arg1, long arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.INT, arg1, Primitive.LONG, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, int arg1, float arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.INT, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, int arg1, double arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.INT, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, long arg1, Object arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.LONG, arg1, arg2, 0);
+    }
+
+    public default SingleLevelLogger format(String format, long arg1, boolean arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.LONG, arg1, Primitive.BOOLEAN, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, long arg1, char arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.LONG, arg1, Primitive.CHAR, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, long arg1, byte arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.LONG, arg1, Primitive.BYTE, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, long arg1, short arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.LONG, arg1, Primitive.SHORT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, long arg1, int arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.LONG, arg1, Primitive.INT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, long arg1, long arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.LONG, arg1, Primitive.LONG, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, long arg1, float arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.LONG, arg1, Primitive.FLOAT, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, long arg1, double arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.LONG, arg1, Primitive.DOUBLE, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, float arg1, Object arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.FLOAT, Primitive.bits(arg1), arg2, 0);
+    }
+
+    public default SingleLevelLogger format(String format, float arg1, boolean arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.FLOAT, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, float arg1, char arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.FLOAT, Primitive.bits(arg1), Primitive.CHAR, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, float arg1, byte arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.FLOAT, Primitive.bits(arg1), Primitive.BYTE, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, float arg1, short arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.FLOAT, Primitive.bits(arg1), Primitive.SHORT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, float arg1, int arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.FLOAT, Primitive.bits(arg1), Primitive.INT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, float arg1, long arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.FLOAT, Primitive.bits(arg1), Primitive.LONG, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, float arg1, float arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.FLOAT, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, float arg1, double arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.FLOAT, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, double arg1, Object arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.DOUBLE, Primitive.bits(arg1), arg2, 0);
+    }
+
+    public default SingleLevelLogger format(String format, double arg1, boolean arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.BOOLEAN, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, double arg1, char arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.CHAR, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, double arg1, byte arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.BYTE, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, double arg1, short arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.SHORT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, double arg1, int arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.INT, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, double arg1, long arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.LONG, arg2);
+    }
+
+    public default SingleLevelLogger format(String format, double arg1, float arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.FLOAT, Primitive.bits(arg2));
+    }
+
+    public default SingleLevelLogger format(String format, double arg1, double arg2) {
+        return PrimitiveFormatter.format(this, format, 2, Primitive.DOUBLE, Primitive.bits(arg1), Primitive.DOUBLE, Primitive.bits(arg2));
+    }
+
 }
@@ -0,0 +1,178 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * When enabled, records stopwatches (both StopwatchLogs and Stopwatches) as
+ * spans: stopwatches opened inside each other on the same thread form a
+ * tree, and each tree is kept in a bounded buffer once its root is closed.
+ * Buffered trees can be written out in Chrome Trace Event format.
+ * 
+ * Spans are recorded into reused per-thread arrays with no locking; the
+ * only synchronization is when a completed tree is added to the buffer.
+ * When the buffer is full, the oldest tree is discarded.
+ * 
+ * A stopwatch that is never closed would leave its tree open forever, with
+ * every later stopwatch on its thread nested under it.  So a tree is
+ * discarded, unwritten, if a stopwatch is opened in it more than
+ * MAX_TREE_NANOS after its root, or once it reaches MAX_SPANS_PER_TREE spans;
+ * the stopwatch being opened then starts a new tree.
+ */
+final class SpanRecorder {
+
+    static final long NOT_RECORDING = -1;
+    
+    private static final int MAX_SPANS_PER_TREE = 4096;
+    private static final long MAX_TREE_NANOS = 10L * 60 * 1000000000; // ten minutes
+    private static final ThreadLocal<Trace> TRACE = ThreadLocal.withInitial(Trace::new);
+    
+    private static volatile ArrayBlockingQueue<SpanTree> _trees; // null if not recording
+    
+    private SpanRecorder() {}
+    
+    /**
+     * A completed tree of spans, in the order they were opened
+     */
+    static final class SpanTree {
+        final long threadId;
+        final String threadName;
+        final String[] names;
+        final long[] starts, ends;
+        final int[] parents; // index of each span's parent, or -1 for the root
+        
+        SpanTree(Thread thread, Trace trace) {
+            threadId = thread.getId();
+            threadName = thread.getName();
+            names = Arrays.copyOf(trace.names, trace.size);
+            starts = Arrays.copyOf(trace.starts, trace.size);
+            ends = Arrays.copyOf(trace.ends, trace.size);
+            parents = Arrays.copyOf(trace.parents, trace.size);
+        }
+    }
+    
+    // the spans of the tree currently being built by one thread
+    private static class Trace {
+        String[] names = new String[16];
+        long[] starts = new long[16], ends = new long[16];
+        int[] parents = new int[16];
+        int size;
+        int[] open = new int[16]; // stack of indexes of open spans
+        int depth;
+        long nextId, firstId; // span ids are unique per thread, so stale ids are harmless
+        
+        long open(String name, long start) {
+            if (size == MAX_SPANS_PER_TREE || (depth > 0 && start - starts[0] > MAX_TREE_NANOS)) discard();
+            if (size == 0) firstId = nextId;
+            int i = add(name, start, -1);
+            if (depth == open.length) open = Arrays.copyOf(open, depth * 2);
+            open[depth++] = i;
+            return nextId++;
+        }
+        
+        void child(String name, long start, long end) {
+            if (depth > 0 && size < MAX_SPANS_PER_TREE) {
+                ends[add(name, start, end)] = end;
+                ++nextId;
+            }
+        }
+        
+        private int add(String name, long start, long end) {
+            if (size == names.length) {
+                int n = size * 2;
+                names = Arrays.copyOf(names, n);
+                starts = Arrays.copyOf(starts, n);
+                ends = Arrays.copyOf(ends, n);
+                parents = Arrays.copyOf(parents, n);
+            }
+            names[size] = name;
+            starts[size] = start;
+            ends[size] = end;
+            parents[size] = depth > 0 ? open[depth - 1] : -1;
+            return size++;
+        }
+        
+        void close(long id, long end) {
+            long i = id - firstId;
+            if (i < 0 || i >= size) return; // from an earlier tree
+            int d = depth;
+            while (d > 0 && open[d - 1] != i) --d;
+            if (d == 0) return; // already closed
+            for (int j = d - 1; j < depth; ++j) ends[open[j]] = end; // including any unclosed children
+            depth = d - 1;
+            if (depth == 0) {
+                ArrayBlockingQueue<SpanTree> trees = _trees;
+                if (trees != null) {
+                    SpanTree tree = new SpanTree(Thread.currentThread(), this);
+                    while (!trees.offer(tree)) trees.poll();
+                }
+                discard();
+            }
+        }
+        
+        // empties this trace; closing a span from the discarded tree is then
+        // a no-op, as its id precedes the next tree's firstId
+        void discard() {
+            Arrays.fill(names, 0, size, null);
+            size = 0;
+            depth = 0;
+        }
+    }
+    
+    static long open(String name, long startNanos) {
+        return _trees == null ? NOT_RECORDING : TRACE.get().open(name, startNanos);
+    }
+    
+    static void close(long span, long endNanos) {
+        if (span != NOT_RECORDING) TRACE.get().close(span, endNanos);
+    }
+    
+    // records an already-finished child of the innermost open span
+    static void child(long parentSpan, String name, long startNanos, long endNanos) {
+        if (parentSpan != NOT_RECORDING) TRACE.get().child(name, startNanos, endNanos);
+    }
+    
+    static synchronized void enable(int maxTrees) {
+        if (_trees == null || _trees.remainingCapacity() + _trees.size() != maxTrees) {
+            _trees = new ArrayBlockingQueue<>(Math.max(1, maxTrees));
+        }
+    }
+    
+    static synchronized void disable() {
+        _trees = null;
+    }
+    
+    /**
+     * Removes all completed trees from the buffer and writes them to out
+     * @return the number of trees written
+     */
+    static int write(Writer out) throws IOException {
+        ArrayBlockingQueue<SpanTree> trees = _trees;
+        List<SpanTree> drained = new ArrayList<>();
+        if (trees != null) trees.drainTo(drained);
+        long origin = Long.MAX_VALUE;
+        for (SpanTree tree : drained) origin = Math.min(origin, tree.starts[0]);
+        try (ChromeTraceWriter w = new ChromeTraceWriter(out, drained.isEmpty() ? 0 : origin)) {
+            for (SpanTree tree : drained) w.write(tree);
+        }
+        return drained.size();
+    }
+}
@@ -0,0 +1,184 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.util.Arrays;
+
+/**
+ * A lightweight, reusable alternative to StopwatchLog for timing code that
+ * runs too often to pay for a Log per measurement.  Obtain one via
+ * SingleLevelLogger.timer() and close it (ideally via try-with-resources)
+ * to log the elapsed time:
+ * 
+ * <pre>
+ * try (Stopwatch sw = log.debug.timer("rpc")) {
+ *     connect();
+ *     sw.lap("connect");
+ *     send();
+ *     sw.lap("send");
+ * }
+ * </pre>
+ * 
+ * logs something like "rpc finished in 12.345 ms [connect 2.100 ms, send 10.245 ms]".
+ * 
+ * Nothing is formatted until close(), and nothing at all if the target
+ * SingleLevelLogger is disabled.  If stopwatch aggregation is enabled via
+ * Log.aggregateStopwatches(), the total time is recorded in the histogram for
+ * the stopwatch's name instead (laps are not aggregated).  If span recording
+ * is enabled via Log.recordSpans(), the Stopwatch is recorded as a span, with
+ * each lap as a child span.
+ * 
+ * The state behind each Stopwatch (including its lap arrays) is pooled per
+ * thread and recycled when the Stopwatch is closed.  Each Stopwatch is a
+ * small handle stamped with the generation of the state it was given, so a
+ * Stopwatch that is closed twice, or used after closing, cannot touch the
+ * state after it has been handed to another Stopwatch: close() does nothing
+ * and lap() is ignored.  The handle is small enough that the JIT usually
+ * eliminates it when the Stopwatch is used via try-with-resources, so timing
+ * allocates nothing.  Stopwatches are not threadsafe.
+ */
+public final class Stopwatch implements AutoCloseable {
+
+    private static final int POOL_SIZE = 8; // per thread; deeper nesting just allocates
+    private static final int INITIAL_LAPS = 4;
+    private static final ThreadLocal<Pool> POOL = ThreadLocal.withInitial(Pool::new);
+    
+    private final Timing _t;
+    private final int _generation;
+    private final long _started;
+    
+    // the recyclable state of an open Stopwatch.  the work is done here
+    // rather than in Stopwatch so that Stopwatch's own methods stay small
+    // enough to inline, letting the JIT eliminate the handle under
+    // try-with-resources
+    private static class Timing {
+        String name;
+        SingleLevelLogger sll;
+        long lastLap;
+        long span;
+        String[] lapNames = new String[INITIAL_LAPS];
+        long[] lapNanos = new long[INITIAL_LAPS];
+        int laps;
+        int generation; // advanced on each recycle, invalidating the previous Stopwatch
+        
+        void lap(String lapName) {
+            long now = System.nanoTime();
+            if (lapName == null) lapName = "null"; // as it would be logged; a span needs a name
+            if (laps == lapNames.length) {
+                lapNames = Arrays.copyOf(lapNames, laps * 2);
+                lapNanos = Arrays.copyOf(lapNanos, laps * 2);
+            }
+            lapNames[laps] = lapName;
+            lapNanos[laps++] = now - lastLap;
+            SpanRecorder.child(span, lapName, lastLap, now);
+            lastLap = now;
+        }
+        
+        void close(long started) {
+            long now = System.nanoTime();
+            SpanRecorder.close(span, now);
+            long nanos = now - started;
+            LatencyHistogram histogram = StopwatchAggregator.histogramFor(name, sll);
+            if (histogram != null) {
+                histogram.record(nanos);
+            } else if (sll.isEnabled()) {
+                sll.print(message(nanos));
+            }
+            if (Jfr.isStopwatchEnabled()) Jfr.stopwatch(name, nanos, false, false);
+            recycle();
+        }
+        
+        private String message(long nanos) {
+            StringBuilder sb = FastFormatter.acquire();
+            try {
+                sb.append(name).append(" finished in ");
+                StopwatchAggregator.appendMillis(sb, nanos).append(" ms");
+                for (int i = 0; i < laps; ++i) {
+                    sb.append(i == 0 ? " [" : ", ").append(lapNames[i]).append(' ');
+                    StopwatchAggregator.appendMillis(sb, lapNanos[i]).append(" ms");
+                }
+                if (laps > 0) sb.append(']');
+                return sb.toString();
+            } finally {
+                FastFormatter.release(sb);
+            }
+        }
+        
+        private void recycle() {
+            ++generation;
+            Arrays.fill(lapNames, 0, laps, null);
+            name = null;
+            sll = null;
+            Pool pool = POOL.get();
+            if (pool.size < POOL_SIZE) pool.free[pool.size++] = this;
+        }
+    }
+    
+    private static class Pool {
+        final Timing[] free = new Timing[POOL_SIZE];
+        int size = 0;
+    }
+    
+    private Stopwatch(Timing t, long started) {
+        _t = t;
+        _generation = t.generation;
+        _started = started;
+    }
+    
+    static Stopwatch start(String name, SingleLevelLogger logTo) {
+        Pool pool = POOL.get();
+        Timing t = pool.size > 0 ? pool.free[--pool.size] : new Timing();
+        t.name = name == null ? "Stopwatch" : name;
+        t.sll = logTo;
+        t.laps = 0;
+        long started = t.lastLap = System.nanoTime();
+        t.span = SpanRecorder.open(t.name, started);
+        return new Stopwatch(t, started);
+    }
+    
+    // whether this Stopwatch is still open, i.e. its Timing has not been recycled
+    private boolean isOpen() {
+        return _t.generation == _generation;
+    }
+    
+    /**
+     * Records the time since the previous lap (or since the Stopwatch was
+     * started, if this is the first lap) under the specified name.  Does
+     * nothing if the Stopwatch has been closed.
+     * 
+     * @param lapName the name of the phase that just finished (null is
+     * recorded as "null")
+     * @return this Stopwatch
+     */
+    public Stopwatch lap(String lapName) {
+        if (isOpen()) _t.lap(lapName);
+        return this;
+    }
+    
+    /**
+     * Returns the time elapsed since the Stopwatch was started, without
+     * stopping it.
+     * 
+     * @return the elapsed time in nanoseconds
+     */
+    public long split() {
+        return System.nanoTime() - _started;
+    }
+    
+    @Override
+    public void close() {
+        if (isOpen()) _t.close(_started);
+    }
+}
@@ -0,0 +1,131 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * When enabled, collects StopwatchLog timings into one LatencyHistogram per
+ * stopwatch name and periodically logs a percentile summary for each name,
+ * rather than one line per stopwatch.
+ * 
+ * Each summary is logged to the SingleLevelLogger of the first stopwatch
+ * that was created with that name.
+ * 
+ * Each name costs a histogram of about 15 KB, so at most MAX_NAMES names are
+ * aggregated at a time, and a name that had no timings during an interval is
+ * forgotten after that interval's report.  Stopwatches whose names don't fit
+ * are logged individually, as if aggregation were not enabled.
+ */
+final class StopwatchAggregator {
+
+    static final int MAX_NAMES = 1024;
+    
+    private static final Map<String, Aggregate> _aggregates = new ConcurrentHashMap<>();
+    private static volatile boolean _enabled = false;
+    private static ScheduledExecutorService _reporter; // guarded by class lock
+    private static ScheduledFuture<?> _schedule; // guarded by class lock
+    
+    private StopwatchAggregator() {}
+    
+    private static class Aggregate {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final String name;
+        final SingleLevelLogger reportTo;
+        
+        Aggregate(String name, SingleLevelLogger reportTo) {
+            this.name = name;
+            this.reportTo = reportTo;
+        }
+    }
+    
+    /**
+     * Returns the histogram for the named stopwatch, or null if aggregation
+     * is not enabled or MAX_NAMES other names are already being aggregated
+     */
+    static LatencyHistogram histogramFor(String name, SingleLevelLogger reportTo) {
+        if (!_enabled) return null;
+        Aggregate a = _aggregates.get(name);
+        if (a == null) {
+            if (_aggregates.size() >= MAX_NAMES) return null; // may briefly overshoot under contention
+            a = _aggregates.computeIfAbsent(name, n -> new Aggregate(n, reportTo));
+        }
+        return a.histogram;
+    }
+    
+    static synchronized void enable(Duration reportInterval) {
+        long millis = Math.max(1, reportInterval.toMillis());
+        if (_reporter == null) {
+            _reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "martian-log-stopwatch-reporter");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        if (_schedule != null) _schedule.cancel(false);
+        _schedule = _reporter.scheduleAtFixedRate(StopwatchAggregator::report, millis, millis, TimeUnit.MILLISECONDS);
+        _enabled = true;
+    }
+    
+    static synchronized void disable() {
+        if (!_enabled) return;
+        _enabled = false;
+        _schedule.cancel(false);
+        _schedule = null;
+        report(); // whatever was recorded since the last report
+        _aggregates.clear();
+    }
+    
+    static void report() {
+        for (Aggregate a : _aggregates.values()) {
+            LatencyHistogram.Snapshot s = a.histogram.snapshotAndReset();
+            if (s.count == 0 && _aggregates.remove(a.name, a)) {
+                // idle; anything recorded between the snapshot and the
+                // removal is still reported, since this is the last chance
+                s = a.histogram.snapshotAndReset();
+            }
+            report(a, s);
+        }
+    }
+    
+    private static void report(Aggregate a, LatencyHistogram.Snapshot s) {
+        if (s.count > 0 && a.reportTo.isEnabled()) {
+            StringBuilder sb = new StringBuilder(a.name).append(": count=").append(s.count);
+            appendMillis(sb.append(" min="), s.min);
+            appendMillis(sb.append(" p50="), s.percentile(50));
+            appendMillis(sb.append(" p90="), s.percentile(90));
+            appendMillis(sb.append(" p99="), s.percentile(99));
+            appendMillis(sb.append(" p999="), s.percentile(99.9));
+            appendMillis(sb.append(" max="), s.max);
+            a.reportTo.print(sb.append(" (ms)").toString());
+        }
+    }
+    
+    // appends nanoseconds as milliseconds with three decimal places
+    static StringBuilder appendMillis(StringBuilder sb, long nanos) {
+        long micros = (nanos + 500) / 1000;
+        sb.append(micros / 1000).append('.');
+        long frac = micros % 1000;
+        if (frac < 100) sb.append('0');
+        if (frac < 10) sb.append('0');
+        return sb.append(frac);
+    }
+}
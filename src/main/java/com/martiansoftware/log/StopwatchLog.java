@@ -16,28 +16,37 @@ package com.martiansoftware.log;
 
 import java.time.Duration;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import org.slf4j.Logger;
 
 /**
  * A Log that measures elapsed time between its creating and its closing.
  * A StopwatchLog can log warnings or errors if user-set thresholds are exceeded.
  * 
+ * Elapsed time is measured with System.nanoTime().  If stopwatch aggregation
+ * is enabled via Log.aggregateStopwatches(), the started and finished lines
+ * are replaced by a periodic percentile summary per stopwatch name (threshold
+ * warnings and errors are still logged individually).  If span recording is
+ * enabled via Log.recordSpans(), stopwatches are also recorded as spans.
+ * 
  * @author <a href="http://martylamb.com">Marty Lamb</a>
  */
 public class StopwatchLog extends Log implements AutoCloseable {
     
     private final String _name;
     private final SingleLevelLogger _sll;
+    private final boolean _aggregated; // whether "started" went unlogged because of aggregation
     private final long _started;
+    private final long _span;
     private Duration _warnThreshold, _errorThreshold;
     
-    StopwatchLog(String name, Logger delegate, Function<String, String> stringTweaker, SingleLevelLogger logStopwatchTo) {
-        super(delegate, s -> defaultName(name) + ": " + stringTweaker.apply(s));
+    StopwatchLog(String name, Logger delegate, String prefix, SingleLevelLogger logStopwatchTo) {
+        super(delegate, defaultName(name) + ": " + prefix);
         _name = defaultName(name);
         _sll = logStopwatchTo;
-        _started = System.currentTimeMillis();        
-        _sll.format("%s: started", _name);
+        _aggregated = StopwatchAggregator.histogramFor(_name, _sll) != null;
+        _started = System.nanoTime();
+        _span = SpanRecorder.open(_name, _started);
+        if (!_aggregated) _sll.format("%s: started", _name);
     }
 
     private static String defaultName(String name) {
@@ -71,8 +80,8 @@ public class StopwatchLog extends Log implements AutoCloseable {
     }
     
     private boolean checkThreshold(String thresholdType, Duration elapsed, Duration threshold, Consumer<String> logDest) {
-        if (threshold != null && elapsed.compareTo(threshold) >= 0) {
-            logDest.accept(String.format("%s threshold was %d ms, elapsed time was %d ms, exceeded by %d ms",
+        if (exceeds(elapsed, threshold)) {
+            logDest.accept(FastFormatter.printf("%s threshold was %d ms, elapsed time was %d ms, exceeded by %d ms",
                                             thresholdType, 
                                             threshold.toMillis(),
                                             elapsed.toMillis(),
@@ -84,9 +93,25 @@ public class StopwatchLog extends Log implements AutoCloseable {
     
     @Override
     public void close() {        
-        Duration elapsed = Duration.ofMillis(System.currentTimeMillis() - _started);
-        _sll.format("%s finished in %d ms", _name, elapsed.toMillis());
+        long now = System.nanoTime();
+        SpanRecorder.close(_span, now);
+        long nanos = now - _started;
+        Duration elapsed = Duration.ofNanos(nanos);
+        // looked up again, since an idle name's histogram may have been dropped since
+        LatencyHistogram histogram = _aggregated ? StopwatchAggregator.histogramFor(_name, _sll) : null;
+        if (histogram != null) {
+            histogram.record(nanos);
+        } else if (_sll.isEnabled()) {
+            _sll.format("%s finished in %d ms", _name, elapsed.toMillis());
+        }
         if (!checkThreshold("error", elapsed, _errorThreshold, s -> error(s)))
             checkThreshold("warning", elapsed, _warnThreshold, s -> warn(s));
+        if (Jfr.isStopwatchEnabled()) {
+            Jfr.stopwatch(_name, nanos, exceeds(elapsed, _warnThreshold), exceeds(elapsed, _errorThreshold));
+        }
+    }
+    
+    private static boolean exceeds(Duration elapsed, Duration threshold) {
+        return threshold != null && elapsed.compareTo(threshold) >= 0;
     }
 }
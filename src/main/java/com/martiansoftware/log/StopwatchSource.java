@@ -0,0 +1,25 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+/**
+ * Implemented by SingleLevelLoggers that can create StopwatchLogs reporting
+ * to some other SingleLevelLogger, so that wrappers such as GatedLogger can
+ * create stopwatches that report through themselves.
+ */
+interface StopwatchSource {
+    
+    StopwatchLog stopwatch(String name, SingleLevelLogger logStopwatchTo);
+}
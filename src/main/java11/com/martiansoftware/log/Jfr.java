@@ -0,0 +1,66 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+/**
+ * Emits JDK Flight Recorder events for log calls, stopwatches, and throwable
+ * handlers.  This is the Java 11+ version from the multi-release jar; each
+ * isXEnabled() method is a cheap check of whether a recording has enabled
+ * the corresponding event.
+ * 
+ * The jdk.jfr module is optional (it can be left out of a jlink image, or
+ * not resolved by a modular application), so it is probed for once, and the
+ * event classes in JfrEvents are only touched if it is present.  Without it,
+ * every isXEnabled() method returns false.
+ */
+final class Jfr {
+
+    private static final boolean AVAILABLE = probe();
+    
+    private Jfr() {}
+    
+    private static boolean probe() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return JfrEvents.LOG != null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+    
+    static boolean isLogEnabled() {
+        return AVAILABLE && JfrEvents.LOG.isEnabled();
+    }
+    
+    static void log(String logger, String level, String template, long formatNanos) {
+        JfrEvents.log(logger, level, template, formatNanos);
+    }
+    
+    static boolean isStopwatchEnabled() {
+        return AVAILABLE && JfrEvents.STOPWATCH.isEnabled();
+    }
+    
+    static void stopwatch(String name, long durationNanos, boolean warnExceeded, boolean errorExceeded) {
+        JfrEvents.stopwatch(name, durationNanos, warnExceeded, errorExceeded);
+    }
+    
+    static boolean isThrowableHandledEnabled() {
+        return AVAILABLE && JfrEvents.THROWABLE_HANDLED.isEnabled();
+    }
+    
+    static void throwableHandled(Throwable t, long handlerNanos) {
+        JfrEvents.throwableHandled(t, handlerNanos);
+    }
+}
@@ -0,0 +1,99 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The JDK Flight Recorder event classes used by Jfr, kept apart from it so
+ * that Jfr itself never links against jdk.jfr.  This class is only loaded
+ * once Jfr has found the jdk.jfr module to be present.
+ */
+final class JfrEvents {
+
+    static final EventType LOG = EventType.getEventType(LogEvent.class);
+    static final EventType STOPWATCH = EventType.getEventType(StopwatchEvent.class);
+    static final EventType THROWABLE_HANDLED = EventType.getEventType(ThrowableHandledEvent.class);
+    
+    private JfrEvents() {}
+    
+    @Name("com.martiansoftware.log.Log")
+    @Label("Log")
+    @Category("Martian Log")
+    @Description("A formatted log message")
+    @StackTrace(false)
+    static class LogEvent extends Event {
+        @Label("Logger") String logger;
+        @Label("Level") String level;
+        @Label("Template") String template;
+        @Label("Format Time") @Timespan(Timespan.NANOSECONDS) long formatTime;
+    }
+    
+    @Name("com.martiansoftware.log.Stopwatch")
+    @Label("Stopwatch")
+    @Category("Martian Log")
+    @Description("A closed StopwatchLog or Stopwatch")
+    @StackTrace(false)
+    static class StopwatchEvent extends Event {
+        @Label("Name") String name;
+        @Label("Elapsed") @Timespan(Timespan.NANOSECONDS) long elapsed;
+        @Label("Warning Threshold Exceeded") boolean warnExceeded;
+        @Label("Error Threshold Exceeded") boolean errorExceeded;
+    }
+    
+    @Name("com.martiansoftware.log.ThrowableHandled")
+    @Label("Throwable Handled")
+    @Category("Martian Log")
+    @Description("A logged Throwable passed to the registered throwable handlers")
+    @StackTrace(false)
+    static class ThrowableHandledEvent extends Event {
+        @Label("Throwable Class") Class<?> throwableClass;
+        @Label("Message") String message;
+        @Label("Handler Time") @Timespan(Timespan.NANOSECONDS) long handlerTime;
+    }
+    
+    static void log(String logger, String level, String template, long formatNanos) {
+        LogEvent e = new LogEvent();
+        e.logger = logger;
+        e.level = level;
+        e.template = template;
+        e.formatTime = formatNanos;
+        e.commit();
+    }
+    
+    static void stopwatch(String name, long durationNanos, boolean warnExceeded, boolean errorExceeded) {
+        StopwatchEvent e = new StopwatchEvent();
+        e.name = name;
+        e.elapsed = durationNanos;
+        e.warnExceeded = warnExceeded;
+        e.errorExceeded = errorExceeded;
+        e.commit();
+    }
+    
+    static void throwableHandled(Throwable t, long handlerNanos) {
+        ThrowableHandledEvent e = new ThrowableHandledEvent();
+        e.throwableClass = t.getClass();
+        e.message = t.getMessage();
+        e.handlerTime = handlerNanos;
+        e.commit();
+    }
+}
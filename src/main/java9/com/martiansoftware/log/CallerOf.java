@@ -0,0 +1,41 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.lang.StackWalker.StackFrame;
+
+/**
+ * Utility class used to peek up the stack at its invoker.
+ * 
+ * This is the Java 9+ implementation (selected automatically via the
+ * multi-release jar), which uses a StackWalker to visit only the frames it
+ * needs rather than capturing the entire class context via a SecurityManager.
+ */
+class CallerOf {
+    private final static StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    public static Class stackAncestor(int generationsBack) {
+        if (generationsBack < 0) throw new IllegalArgumentException("CallingClass.get() requires an offset >= 0");
+        // frame 0 is this method
+        return WALKER.walk(frames -> frames.skip(generationsBack + 1)
+                                            .findFirst()
+                                            .map(StackFrame::getDeclaringClass)
+                                            .orElse(null));
+    }
+    
+    public static Class thisMethod() {
+        return stackAncestor(1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.helpers.NOPLogger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that calls to a disabled level allocate nothing, once the JIT has
+ * compiled them.  Allocation is measured with the per-thread allocation
+ * counter of com.sun.management.ThreadMXBean, and the test is skipped on
+ * JVMs that don't provide one.
+ */
+public class DisabledPathAllocationTest {
+
+    private static final int CALLS = 100000;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 5;
+    
+    private static com.sun.management.ThreadMXBean _threads;
+    
+    private final Log _log = new Log(NOPLogger.NOP_LOGGER, "");
+    private final Object _a = "alpha";
+    private final Object _b = 42;
+    private final Exception _exception = new Exception("disabled");
+    private final Supplier<String> _supplier = () -> "supplied message";
+    
+    @BeforeClass
+    public static void checkAllocationCounter() {
+        Object bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        _threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(_threads.isThreadAllocatedMemorySupported());
+        _threads.setThreadAllocatedMemoryEnabled(true);
+    }
+    
+    @Test
+    public void singleLevelLogger() {
+        SingleLevelLogger sll = _log.debug;
+        assertNoAllocation(() -> {
+            for (int i = 0; i < CALLS; ++i) {
+                sll.print("a message");
+                sll.print(_supplier);
+                sll.format("%s is %s", _a, _b);
+                sll.format("%s is %d", _a, i);
+                sll.throwable(_exception);
+                sll.throwable(_exception, "%s failed with %s", _a, _b);
+                sll.kv("a message").with("a", _a).with("i", i).log();
+                try (Stopwatch sw = sll.timer("a timer")) {
+                    sw.lap("a lap");
+                }
+            }
+        });
+    }
+    
+    @Test
+    public void slf4jMethods() {
+        assertNoAllocation(() -> {
+            for (int i = 0; i < CALLS; ++i) {
+                _log.debug("a message");
+                _log.debug("{} is {}", _a, _b);
+                _log.debug("{} is {} or {}", _a, _b, _exception);
+                _log.debug("{} is {}", _a, i);
+                _log.debug("{} is {}", i, (long) i);
+                _log.debug("{}", _supplier);
+                _log.debug("failed", _exception);
+            }
+        });
+    }
+    
+    // bytes allocated by one run of calls, after warming them up
+    private static void assertNoAllocation(Runnable calls) {
+        for (int i = 0; i < WARMUP_ROUNDS; ++i) calls.run();
+        long id = Thread.currentThread().getId();
+        long least = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; ++i) {
+            long before = _threads.getThreadAllocatedBytes(id);
+            calls.run();
+            long after = _threads.getThreadAllocatedBytes(id);
+            least = Math.min(least, after - before);
+        }
+        // a round is CALLS iterations, so anything per call would show up as
+        // hundreds of kilobytes; allow for the counter's own bookkeeping
+        assertEquals("bytes per disabled call", 0, least / CALLS);
+    }
+}
@@ -0,0 +1,146 @@
+package com.martiansoftware.log;
+
+//   Copyright 2026 Martian Software, Inc.
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+import java.lang.reflect.Proxy;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.helpers.MessageFormatter;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that every primitive type logs exactly as its boxed value would:
+ * through the primitive overloads of the slf4j methods against slf4j's own
+ * MessageFormatter, and through those of SingleLevelLogger.format() against
+ * String.format().
+ */
+public class PrimitiveArgumentsTest {
+
+    private String _logged;
+    private final Log _log = new Log(capturingLogger(), "");
+
+    @Test
+    public void booleans() {
+        for (boolean v : new boolean[] { true, false }) {
+            _log.info("{}", v); assertSlf4j("{}", v);
+            _log.info("{} {}", v, "x"); assertSlf4j("{} {}", v, "x");
+            _log.info("{} {}", v, v); assertSlf4j("{} {}", v, v);
+            _log.info.format("%s", v); assertPrintf("%s", v);
+            _log.info.format("%s %b", v, v); assertPrintf("%s %b", v, v);
+        }
+    }
+
+    @Test
+    public void chars() {
+        for (char v : new char[] { 'c', '0', ' ', 'é', Character.MIN_VALUE, Character.MAX_VALUE }) {
+            _log.info("{}", v); assertSlf4j("{}", v);
+            _log.info("{} {}", "x", v); assertSlf4j("{} {}", "x", v);
+            _log.info("{} {}", v, 1); assertSlf4j("{} {}", v, 1);
+            _log.info.format("%s", v); assertPrintf("%s", v);
+            _log.info.format("%c %s", v, v); assertPrintf("%c %s", v, v);
+        }
+    }
+
+    @Test
+    public void bytes() {
+        for (byte v : new byte[] { 0, 1, -1, Byte.MIN_VALUE, Byte.MAX_VALUE }) {
+            _log.info("{}", v); assertSlf4j("{}", v);
+            _log.info("{} {}", v, v); assertSlf4j("{} {}", v, v);
+            _log.info.format("%s", v); assertPrintf("%s", v);
+            _log.info.format("%d", v); assertPrintf("%d", v);
+            _log.info.format("%x", v); assertPrintf("%x", v);
+            _log.info.format("%d %x", v, v); assertPrintf("%d %x", v, v);
+            _log.info.format("%s %x", "x", v); assertPrintf("%s %x", "x", v);
+        }
+    }
+
+    @Test
+    public void shorts() {
+        for (short v : new short[] { 0, 1, -1, Short.MIN_VALUE, Short.MAX_VALUE }) {
+            _log.info("{}", v); assertSlf4j("{}", v);
+            _log.info("{} {}", v, v); assertSlf4j("{} {}", v, v);
+            _log.info.format("%s", v); assertPrintf("%s", v);
+            _log.info.format("%d", v); assertPrintf("%d", v);
+            _log.info.format("%x", v); assertPrintf("%x", v);
+            _log.info.format("%x %d", v, 1L); assertPrintf("%x %d", v, 1L);
+        }
+    }
+
+    @Test
+    public void ints() {
+        for (int v : new int[] { 0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE }) {
+            _log.info("{}", v); assertSlf4j("{}", v);
+            _log.info("{} {}", v, v); assertSlf4j("{} {}", v, v);
+            _log.info.format("%s", v); assertPrintf("%s", v);
+            _log.info.format("%d", v); assertPrintf("%d", v);
+            _log.info.format("%x", v); assertPrintf("%x", v);
+            _log.info.format("%5d|%-4x", v, v); assertPrintf("%5d|%-4x", v, v);
+        }
+    }
+
+    @Test
+    public void longs() {
+        for (long v : new long[] { 0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE }) {
+            _log.info("{}", v); assertSlf4j("{}", v);
+            _log.info("{} {}", v, true); assertSlf4j("{} {}", v, true);
+            _log.info.format("%s", v); assertPrintf("%s", v);
+            _log.info.format("%d", v); assertPrintf("%d", v);
+            _log.info.format("%x %d", v, v); assertPrintf("%x %d", v, v);
+        }
+    }
+
+    @Test
+    public void floats() {
+        for (float v : new float[] { 0, -0f, 0.1f, 1.5f, -2.25e-7f, Float.MAX_VALUE, Float.MIN_VALUE, Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY }) {
+            _log.info("{}", v); assertSlf4j("{}", v);
+            _log.info("{} {}", v, v); assertSlf4j("{} {}", v, v);
+            _log.info("{} {}", 'c', v); assertSlf4j("{} {}", 'c', v);
+            _log.info.format("%s", v); assertPrintf("%s", v);
+            _log.info.format("%f", v); assertPrintf("%f", v);
+            _log.info.format("%s %f", v, v); assertPrintf("%s %f", v, v);
+            _log.info.format("%.2f", v); assertPrintf("%.2f", v);
+        }
+    }
+
+    @Test
+    public void doubles() {
+        for (double v : new double[] { 0, -0d, 0.1, 1.5, -2.25e-7, Double.MAX_VALUE, Double.MIN_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY }) {
+            _log.info("{}", v); assertSlf4j("{}", v);
+            _log.info("{} {}", v, 0.1f); assertSlf4j("{} {}", v, 0.1f);
+            _log.info.format("%s", v); assertPrintf("%s", v);
+            _log.info.format("%f", v); assertPrintf("%f", v);
+            _log.info.format("%f %s", v, v); assertPrintf("%f %s", v, v);
+        }
+    }
+
+    private void assertSlf4j(String format, Object... boxed) {
+        assertEquals(MessageFormatter.arrayFormat(format, boxed).getMessage(), _logged);
+    }
+
+    private void assertPrintf(String format, Object... boxed) {
+        assertEquals(String.format(format, boxed), _logged);
+    }
+
+    // a Logger with every level enabled, keeping the last message logged
+    private Logger capturingLogger() {
+        return (Logger) Proxy.newProxyInstance(Logger.class.getClassLoader(), new Class<?>[] { Logger.class }, (proxy, method, args) -> {
+            if (method.getReturnType() == boolean.class) return true;
+            if (method.getName().equals("getName")) return "test";
+            if (method.getName().equals("info")) _logged = (String) args[0];
+            return null;
+        });
+    }
+}